@@ -0,0 +1,77 @@
+package com.talktoyou.backend.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// STOMP 채널 실행기 비교: 기본 플랫폼 스레드 풀 vs 가상 스레드 (vthreads 프로필)
+// 핸들러의 블로킹 MongoDB 호출을 blockingMicros 만큼의 대기로 흉내 내고, 메시지 batch 처리 완료까지의 시간을 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChannelExecutorBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    // 한 번에 들어오는 STOMP 메시지 수
+    @Param({"1000"})
+    private int batch;
+
+    // 핸들러 하나의 블로킹 시간 (MongoDB 왕복)
+    @Param({"0", "500"})
+    private long blockingMicros;
+
+    private TaskExecutor executor;
+    private ThreadPoolTaskExecutor platformExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("virtual".equals(mode)) {
+            executor = new VirtualThreadTaskExecutor("bench-virtual-");
+            return;
+        }
+        // Spring의 clientInboundChannel 기본 설정과 같은 크기 (코어 수 * 2)
+        platformExecutor = new ThreadPoolTaskExecutor();
+        platformExecutor.setCorePoolSize(Runtime.getRuntime().availableProcessors() * 2);
+        platformExecutor.setMaxPoolSize(Integer.MAX_VALUE);
+        platformExecutor.setThreadNamePrefix("bench-platform-");
+        platformExecutor.initialize();
+        executor = platformExecutor;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (platformExecutor != null) {
+            platformExecutor.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void dispatchBatch() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(batch);
+        for (int i = 0; i < batch; i++) {
+            executor.execute(() -> {
+                if (blockingMicros > 0) {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(blockingMicros));
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,83 @@
+package com.talktoyou.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.talktoyou.backend.dto.ChatMessage;
+import com.talktoyou.backend.util.CompactChatCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ChatMessage 인코딩 비교: Jackson JSON(현재 전송 형식) vs 압축 CBOR
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatMessageCodecBenchmark {
+
+    private ObjectMapper jsonMapper;
+    private CompactChatCodec codec;
+    private ChatMessage message;
+    private byte[] json;
+    private byte[] cbor;
+    private List<ChatMessage> batch;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 스프링 부트 기본 ObjectMapper와 같은 설정 (ISO-8601 날짜 문자열)
+        jsonMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        codec = new CompactChatCodec(jsonMapper);
+
+        message = ChatMessage.builder()
+                .type(ChatMessage.MessageType.CHAT)
+                .messageId("665f1c2e9b1e8a3d4c5b6a79")
+                .roomId("665f1c2e9b1e8a3d4c5b6a70")
+                .userId("665f1c2e9b1e8a3d4c5b6a71")
+                .userName("talktoyou")
+                .content("안녕하세요! 오늘 회의는 3시에 시작합니다.")
+                .timestamp(LocalDateTime.now())
+                .build();
+        json = jsonMapper.writeValueAsBytes(message);
+        cbor = codec.encode(message);
+        batch = Collections.nCopies(20, message);
+        System.out.printf("%n[payload size] json=%d bytes, cbor=%d bytes%n", json.length, cbor.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws Exception {
+        return jsonMapper.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public byte[] cborEncode() {
+        return codec.encode(message);
+    }
+
+    @Benchmark
+    public ChatMessage jsonDecode() throws Exception {
+        return jsonMapper.readValue(json, ChatMessage.class);
+    }
+
+    @Benchmark
+    public ChatMessage cborDecode() {
+        return codec.decode(cbor);
+    }
+
+    // 묶음 전송(BATCH): 원소마다 압축 인코딩하여 배열 하나로
+    @Benchmark
+    public byte[] cborEncodeBatch() {
+        return codec.encodeEvent(batch);
+    }
+}
@@ -0,0 +1,62 @@
+package com.talktoyou.backend.benchmark;
+
+import com.talktoyou.backend.util.JwtUtil;
+import com.talktoyou.backend.util.TokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// JWT 생성/검증 비용: 모든 인증 요청과 STOMP CONNECT에서 실행
+// 캐시 적중(같은 토큰 재사용)과 캐시 없이 서명 검증/파싱하는 경우를 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey1234567890123456789012345678901234567890123456789012345";
+
+    private JwtUtil cachedJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedJwtUtil = new JwtUtil(new SimpleMeterRegistry(), SECRET, 86_400_000L, 10_000);
+        // 캐시 크기 0: 매번 서명 검증과 파싱 수행
+        uncachedJwtUtil = new JwtUtil(new SimpleMeterRegistry(), SECRET, 86_400_000L, 0);
+        token = cachedJwtUtil.generateToken("665f1c2e9b1e8a3d4c5b6a71", "talktoyou");
+        cachedJwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return cachedJwtUtil.generateToken("665f1c2e9b1e8a3d4c5b6a71", "talktoyou");
+    }
+
+    @Benchmark
+    public TokenClaims parseCached() {
+        return cachedJwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public TokenClaims parseUncached() {
+        return uncachedJwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public boolean validateCached() {
+        return cachedJwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateUncached() {
+        return uncachedJwtUtil.validateToken(token);
+    }
+}
@@ -0,0 +1,92 @@
+package com.talktoyou.backend.benchmark;
+
+import com.talktoyou.backend.dto.UserSummary;
+import com.talktoyou.backend.dto.response.RoomResponse;
+import com.talktoyou.backend.entity.ChatRoom;
+import com.talktoyou.backend.entity.Message;
+import com.talktoyou.backend.service.MessageService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 응답 변환 비용: 채팅방 목록 변환과 최근 메시지 정렬
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseConversionBenchmark {
+
+    private static final int ROOM_PAGE_SIZE = 20;
+    private static final int RECENT_MESSAGES = 50;
+
+    private List<ChatRoom> rooms;
+    private Map<String, UserSummary> creators;
+    private List<Message> newestFirst;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+
+        rooms = new ArrayList<>(ROOM_PAGE_SIZE);
+        creators = new HashMap<>();
+        for (int i = 0; i < ROOM_PAGE_SIZE; i++) {
+            String userId = "665f1c2e9b1e8a3d4c5b6a" + String.format("%02d", i);
+            rooms.add(ChatRoom.builder()
+                    .roomId("665f1c2e9b1e8a3d4c5b7a" + String.format("%02d", i))
+                    .roomName("스터디 모임 " + i)
+                    .maxRoomMember(30)
+                    .currentRoomMember(i)
+                    .userId(userId)
+                    .createdAt(base.plusMinutes(i))
+                    .build());
+            creators.put(userId, UserSummary.builder().userId(userId).userName("user" + i).build());
+        }
+
+        // findTop50ByRoomIdOrderByCreatedAtDesc 결과와 같은 최신순 목록
+        newestFirst = new ArrayList<>(RECENT_MESSAGES);
+        for (int i = RECENT_MESSAGES - 1; i >= 0; i--) {
+            newestFirst.add(Message.builder()
+                    .messageId(String.format("665f1c2e9b1e8a3d4c%06x", i))
+                    .roomId("665f1c2e9b1e8a3d4c5b6a70")
+                    .userId("665f1c2e9b1e8a3d4c5b6a71")
+                    .content("메시지 " + i)
+                    .createdAt(base.plusSeconds(i))
+                    .build());
+        }
+    }
+
+    // 채팅방 목록 한 페이지 변환 (RoomDirectory에 들어가는 RoomResponse.from)
+    @Benchmark
+    public List<RoomResponse> roomResponses() {
+        List<RoomResponse> result = new ArrayList<>(rooms.size());
+        for (ChatRoom room : rooms) {
+            result.add(RoomResponse.from(room, creators.get(room.getUserId())));
+        }
+        return result;
+    }
+
+    // 최근 메시지를 오래된 것부터 다시 정렬 (MessageService.loadRecentMessages 방식)
+    @Benchmark
+    public List<Message> recentMessagesResort() {
+        return MessageService.oldestFirst(newestFirst);
+    }
+
+    // 비교 기준: 이미 최신순이므로 뒤집기만 하는 경우 (getMessagePage 방식)
+    @Benchmark
+    public List<Message> recentMessagesReverse() {
+        List<Message> result = new ArrayList<>(newestFirst);
+        Collections.reverse(result);
+        return result;
+    }
+}
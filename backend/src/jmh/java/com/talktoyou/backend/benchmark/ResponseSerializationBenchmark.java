@@ -0,0 +1,100 @@
+package com.talktoyou.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.talktoyou.backend.dto.ChatMessage;
+import com.talktoyou.backend.dto.response.ApiResponse;
+import com.talktoyou.backend.dto.response.MessagePageResponse;
+import com.talktoyou.backend.dto.response.MessageResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson 직렬화 비용: 브로드캐스트 프레임(ChatMessage)과 REST 응답(ApiResponse로 감싼 메시지 페이지)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+
+    // 한 페이지의 메시지 수 (기본 페이지 크기 / 최대 페이지 크기)
+    @Param({"50", "100"})
+    private int pageSize;
+
+    private ObjectMapper jsonMapper;
+    private ChatMessage chatMessage;
+    private MessageResponse messageResponse;
+    private ApiResponse<MessagePageResponse> pageResponse;
+    private byte[] chatMessageJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 스프링 부트 기본 ObjectMapper와 같은 설정 (ISO-8601 날짜 문자열)
+        jsonMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        chatMessage = ChatMessage.builder()
+                .type(ChatMessage.MessageType.CHAT)
+                .messageId("665f1c2e9b1e8a3d4c5b6a79")
+                .roomId("665f1c2e9b1e8a3d4c5b6a70")
+                .seq(1024L)
+                .userId("665f1c2e9b1e8a3d4c5b6a71")
+                .userName("talktoyou")
+                .content("안녕하세요! 오늘 회의는 3시에 시작합니다.")
+                .timestamp(LocalDateTime.now())
+                .build();
+        messageResponse = MessageResponse.from(chatMessage);
+        chatMessageJson = jsonMapper.writeValueAsBytes(chatMessage);
+
+        List<MessageResponse> messages = new ArrayList<>(pageSize);
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        for (int i = 0; i < pageSize; i++) {
+            messages.add(MessageResponse.builder()
+                    .messageId(String.format("665f1c2e9b1e8a3d4c%06x", i))
+                    .roomId("665f1c2e9b1e8a3d4c5b6a70")
+                    .seq((long) i + 1)
+                    .userId("665f1c2e9b1e8a3d4c5b6a7" + (i % 10))
+                    .userName("user" + (i % 10))
+                    .content("메시지 본문 " + i + " - 채팅 메시지 평균 길이 정도의 내용입니다.")
+                    .createdAt(base.plusSeconds(i))
+                    .build());
+        }
+        pageResponse = ApiResponse.success(MessagePageResponse.builder()
+                .messages(messages)
+                .nextCursor("MjAyNS0wNi0wNFQxMjowMDowMHw2NjVmMWMyZTliMWU4YTNkNGM1YjZhNzk")
+                .hasMore(true)
+                .build());
+    }
+
+    @Benchmark
+    public byte[] chatMessage() throws Exception {
+        return jsonMapper.writeValueAsBytes(chatMessage);
+    }
+
+    @Benchmark
+    public ChatMessage chatMessageRead() throws Exception {
+        return jsonMapper.readValue(chatMessageJson, ChatMessage.class);
+    }
+
+    @Benchmark
+    public byte[] messageResponse() throws Exception {
+        return jsonMapper.writeValueAsBytes(messageResponse);
+    }
+
+    @Benchmark
+    public byte[] apiResponsePage() throws Exception {
+        return jsonMapper.writeValueAsBytes(pageResponse);
+    }
+}
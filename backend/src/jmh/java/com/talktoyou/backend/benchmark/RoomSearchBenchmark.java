@@ -0,0 +1,85 @@
+package com.talktoyou.backend.benchmark;
+
+import com.talktoyou.backend.util.TrigramIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// 채팅방 이름 검색 비교: 트라이그램 색인 vs 정규식 전체 스캔 (Mongo의 $regex 검색과 같은 방식)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "자바", "스프링", "개발자", "모임", "스터디", "게임", "음악", "여행", "잡담", "취업",
+            "study", "java", "music", "game", "night", "talk", "friends", "coding", "travel", "daily"
+    };
+
+    private static final int LIMIT = 20;
+
+    @Param({"1000000"})
+    private int roomCount;
+
+    // 선택적인 검색어 / 흔한 단어 / 3글자 미만(전체 순회)
+    @Param({"coding 4242", "스터디", "ja"})
+    private String query;
+
+    private TrigramIndex index;
+    private String[] names;
+    private Pattern pattern;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new TrigramIndex();
+        names = new String[roomCount];
+        for (int i = 0; i < roomCount; i++) {
+            names[i] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + random.nextInt(100_000);
+            index.add(Integer.toString(i), names[i]);
+        }
+        pattern = Pattern.compile(Pattern.quote(query), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        System.out.printf("%n[matches] query=%s, indexed=%d%n", query, index.search(query, LIMIT).size());
+    }
+
+    @Benchmark
+    public List<String> trigramIndex() {
+        return index.search(query, LIMIT);
+    }
+
+    // 기존 방식: 모든 이름에 정규식 적용 후 앞에서부터 limit개 (순위 없음)
+    @Benchmark
+    public List<String> regexScan() {
+        List<String> result = new ArrayList<>(LIMIT);
+        for (int i = 0; i < names.length && result.size() < LIMIT; i++) {
+            if (pattern.matcher(names[i]).find()) {
+                result.add(Integer.toString(i));
+            }
+        }
+        return result;
+    }
+
+    // 기존 방식으로 최신순 정렬까지 하려면 일치하는 문서를 모두 읽어야 한다
+    @Benchmark
+    public int regexScanAll() {
+        int count = 0;
+        for (String name : names) {
+            if (pattern.matcher(name).find()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
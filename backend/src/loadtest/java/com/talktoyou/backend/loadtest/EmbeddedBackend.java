@@ -0,0 +1,87 @@
+package com.talktoyou.backend.loadtest;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.talktoyou.backend.TalkToYouBackendApplication;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.MongoVersion;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// 부하 테스트용 서버를 같은 프로세스에서 실행 (네트워크 없이 동작)
+// MongoDB는 mongo-java-server(메모리), Redis는 jedis-mock으로 대체한다
+final class EmbeddedBackend implements AutoCloseable {
+
+    // 현재 드라이버는 wire version 8(MongoDB 4.2) 미만 서버에 연결하지 않으므로 4.2로 보고한다
+    private static final MongoVersion MONGO_4_2 = new MongoVersion() {
+        @Override
+        public List<Integer> getVersionArray() {
+            return List.of(4, 2, 0);
+        }
+
+        @Override
+        public int getWireVersion() {
+            return 8;
+        }
+    };
+
+    private final MongoServer mongoServer;
+    private final RedisServer redisServer;
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedBackend(MongoServer mongoServer, RedisServer redisServer, ConfigurableApplicationContext context) {
+        this.mongoServer = mongoServer;
+        this.redisServer = redisServer;
+        this.context = context;
+    }
+
+    static EmbeddedBackend start() throws IOException {
+        MongoServer mongoServer = new MongoServer(new MemoryBackend().version(MONGO_4_2));
+        InetSocketAddress mongoAddress = mongoServer.bind();
+
+        RedisServer redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+
+        Path indexDirectory = Files.createTempDirectory("talktoyou-loadtest-index");
+
+        // 기본 속성(properties)은 application.yml보다 우선순위가 낮으므로 명령행 인자로 덮어쓴다
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TalkToYouBackendApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--management.server.port=0",
+                        "--spring.data.mongodb.uri=mongodb://" + mongoAddress.getHostString() + ":"
+                                + mongoAddress.getPort() + "/talktoyou_loadtest",
+                        "--spring.data.redis.host=" + redisServer.getHost(),
+                        "--spring.data.redis.port=" + redisServer.getBindPort(),
+                        "--spring.devtools.restart.enabled=false",
+                        "--app.broker.mode=local",
+                        "--app.message.search.directory=" + indexDirectory,
+                        // 서버 처리량을 측정하므로 전송 한도는 사실상 해제
+                        "--app.websocket.rate-limit.session.burst=1000000",
+                        "--app.websocket.rate-limit.session.refill-per-second=1000000",
+                        "--app.websocket.rate-limit.user.burst=1000000",
+                        "--app.websocket.rate-limit.user.refill-per-second=1000000",
+                        // 메시지마다 남기는 로그가 측정값에 섞이지 않도록 함
+                        "--logging.level.com.talktoyou=WARN",
+                        "--logging.level.org.springframework.web.socket=WARN");
+
+        return new EmbeddedBackend(mongoServer, redisServer, context);
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + context.getEnvironment().getRequiredProperty("local.server.port");
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        redisServer.stop();
+        mongoServer.shutdownNow();
+    }
+}
@@ -0,0 +1,354 @@
+package com.talktoyou.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.talktoyou.backend.dto.ChatMessage;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// 종단 간 STOMP 부하 테스트: N개 클라이언트가 M개 채팅방에 나뉘어 구독하고
+// 전체 초당 rate개의 채팅 메시지를 /app/chat/{roomId}로 보내 브로드캐스트 수신 지연과 처리량을 측정한다
+//
+// 실행: ./gradlew loadTest -Pclients=200 -Prooms=20 -Prate=2000 -Pduration=30
+//      (-Ptarget=http://host:8080 을 지정하면 내장 서버 대신 실행 중인 서버에 연결)
+public final class StompLoadTest {
+
+    private static final String MARKER = "lt:";
+    private static final String PASSWORD = "password1";
+    private static final int MAX_ROOM_MEMBER = 100;
+
+    private final Options options;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final RestClient restClient;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong expectedDeliveries = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    // 측정 구간 (이 구간에 예정된 전송만 집계)
+    private volatile long measureFrom = Long.MAX_VALUE;
+    private volatile long measureUntil = Long.MAX_VALUE;
+
+    private StompLoadTest(Options options, String baseUrl) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.restClient = RestClient.create(baseUrl);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        if (options.target != null) {
+            new StompLoadTest(options, options.target).run();
+            return;
+        }
+        try (EmbeddedBackend backend = EmbeddedBackend.start()) {
+            new StompLoadTest(options, backend.baseUrl()).run();
+        }
+        // 내장 서버의 non-daemon 스레드가 남아 있어도 종료
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        System.out.printf("대상=%s, clients=%d, rooms=%d, rate=%d/s, duration=%ds, warmup=%ds%n",
+                baseUrl, options.clients, options.rooms, options.rate, options.duration, options.warmup);
+
+        List<Client> clients = prepareClients();
+        Map<String, Integer> roomSizes = new HashMap<>();
+        clients.forEach(client -> roomSizes.merge(client.roomId, 1, Integer::sum));
+
+        WebSocketStompClient stompClient = createStompClient();
+        for (Client client : clients) {
+            connect(stompClient, client);
+        }
+        System.out.printf("연결 완료: %d sessions%n", clients.size());
+
+        // 보내는 스레드마다 담당 클라이언트를 나누어 같은 세션에 동시에 쓰지 않도록 한다
+        int senderThreads = Math.min(options.senders, clients.size());
+        ExecutorService senders = Executors.newFixedThreadPool(senderThreads);
+        long start = System.nanoTime();
+        measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmup);
+        measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(options.duration);
+
+        List<Future<?>> running = new ArrayList<>();
+        for (int t = 0; t < senderThreads; t++) {
+            List<Client> assigned = new ArrayList<>();
+            for (int i = t; i < clients.size(); i += senderThreads) {
+                assigned.add(clients.get(i));
+            }
+            long intervalNanos = (long) (1e9 * senderThreads / options.rate);
+            long offset = intervalNanos * t / senderThreads;
+            running.add(senders.submit(() -> drive(assigned, roomSizes, start + offset, intervalNanos)));
+        }
+        for (Future<?> future : running) {
+            future.get();
+        }
+        senders.shutdown();
+
+        // 마지막 메시지가 도착할 시간
+        Thread.sleep(TimeUnit.SECONDS.toMillis(options.drain));
+
+        report();
+
+        clients.forEach(client -> client.session.disconnect());
+        stompClient.stop();
+    }
+
+    // 예정된 시각에 맞춰 전송 (open-loop)
+    // 전송이 밀려도 예정 시각을 기준으로 지연을 재므로 서버가 느려진 구간이 결과에서 빠지지 않는다
+    private void drive(List<Client> assigned, Map<String, Integer> roomSizes, long firstAt, long intervalNanos) {
+        long scheduledAt = firstAt;
+        int next = 0;
+        while (scheduledAt < measureUntil) {
+            long wait = scheduledAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+
+            Client client = assigned.get(next++ % assigned.size());
+            try {
+                client.session.send("/app/chat/" + client.roomId, ChatMessage.builder()
+                        .type(ChatMessage.MessageType.CHAT)
+                        .userId(client.userId)
+                        .userName(client.userName)
+                        .content(MARKER + scheduledAt)
+                        .build());
+                if (scheduledAt >= measureFrom) {
+                    sent.incrementAndGet();
+                    expectedDeliveries.addAndGet(roomSizes.get(client.roomId));
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+            scheduledAt += intervalNanos;
+        }
+    }
+
+    // 수신한 프레임의 채팅 메시지마다 지연 기록 (묶음 전송된 프레임은 JSON 배열)
+    private void onFrame(JsonNode payload) {
+        long receivedAt = System.nanoTime();
+        if (payload.isArray()) {
+            payload.forEach(event -> record(event, receivedAt));
+        } else {
+            record(payload, receivedAt);
+        }
+    }
+
+    private void record(JsonNode event, long receivedAt) {
+        if (!"CHAT".equals(event.path("type").asText())) {
+            return;
+        }
+        String content = event.path("content").asText();
+        if (!content.startsWith(MARKER)) {
+            return;
+        }
+        long scheduledAt = Long.parseLong(content.substring(MARKER.length()));
+        if (scheduledAt >= measureFrom && scheduledAt < measureUntil) {
+            latency.record(TimeUnit.NANOSECONDS.toMicros(receivedAt - scheduledAt));
+        }
+    }
+
+    private void report() {
+        double seconds = options.duration;
+        long delivered = latency.count();
+        long expected = expectedDeliveries.get();
+
+        System.out.println();
+        System.out.println("===== STOMP 부하 테스트 결과 =====");
+        System.out.printf(Locale.ROOT, "전송        : %d msgs (%.1f msgs/s), 전송 오류 %d%n",
+                sent.get(), sent.get() / seconds, errors.get());
+        System.out.printf(Locale.ROOT, "수신        : %d / %d deliveries (%.1f deliveries/s, 유실 %.2f%%)%n",
+                delivered, expected, delivered / seconds,
+                expected == 0 ? 0.0 : 100.0 * (expected - Math.min(delivered, expected)) / expected);
+        System.out.printf(Locale.ROOT, "지연 (ms)   : p50=%.2f  p99=%.2f  p999=%.2f  max=%.2f%n",
+                millis(latency.percentile(0.50)), millis(latency.percentile(0.99)),
+                millis(latency.percentile(0.999)), millis(latency.max()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    // 사용자 가입과 채팅방 준비: 클라이언트 i는 채팅방 (i % rooms)에 참여
+    private List<Client> prepareClients() throws Exception {
+        String runId = UUID.randomUUID().toString().substring(0, 6);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Client>> signups = new ArrayList<>();
+            for (int i = 0; i < options.clients; i++) {
+                String userName = "lt" + runId + i;
+                signups.add(pool.submit(() -> signUp(userName)));
+            }
+            List<Client> clients = new ArrayList<>(options.clients);
+            for (Future<Client> signup : signups) {
+                clients.add(signup.get());
+            }
+
+            // 채팅방은 각 방의 첫 번째 클라이언트가 생성 (생성자는 자동 참여)
+            int roomCapacity = Math.min(MAX_ROOM_MEMBER, Math.max(2, (options.clients + options.rooms - 1) / options.rooms));
+            for (int r = 0; r < options.rooms; r++) {
+                Client owner = clients.get(r);
+                owner.roomId = post("/api/rooms", owner.token,
+                        Map.of("roomName", "loadtest-" + runId + "-" + r, "maxRoomMember", roomCapacity))
+                        .get("roomId").asText();
+            }
+
+            List<Future<?>> joins = new ArrayList<>();
+            for (int i = options.rooms; i < clients.size(); i++) {
+                Client client = clients.get(i);
+                client.roomId = clients.get(i % options.rooms).roomId;
+                joins.add(pool.submit(() -> post("/api/rooms/" + client.roomId + "/join", client.token, null)));
+            }
+            for (Future<?> join : joins) {
+                join.get();
+            }
+            return clients;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Client signUp(String userName) {
+        JsonNode data = post("/api/auth/signup", null, Map.of(
+                "userName", userName,
+                "nickName", userName,
+                "email", userName + "@loadtest.com",
+                "password", PASSWORD));
+        return new Client(data.get("userId").asText(), userName, data.get("accessToken").asText());
+    }
+
+    private JsonNode post(String uri, String token, Object body) {
+        RestClient.RequestBodySpec request = restClient.post().uri(uri).contentType(MediaType.APPLICATION_JSON);
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            request.body(body);
+        }
+        JsonNode response = request.retrieve().body(JsonNode.class);
+        if (response == null || !response.path("success").asBoolean()) {
+            throw new IllegalStateException("요청 실패: " + uri + " -> " + response);
+        }
+        return response.get("data");
+    }
+
+    private WebSocketStompClient createStompClient() {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(converter);
+        stompClient.setInboundMessageSizeLimit(1024 * 1024);
+        return stompClient;
+    }
+
+    private void connect(WebSocketStompClient stompClient, Client client) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + client.token);
+
+        String url = baseUrl.replaceFirst("^http", "ws") + "/ws-stomp";
+        client.session = stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders,
+                new StompSessionHandlerAdapter() {
+                    @Override
+                    public void handleTransportError(StompSession session, Throwable exception) {
+                        errors.incrementAndGet();
+                    }
+                }).get(10, TimeUnit.SECONDS);
+
+        client.session.subscribe("/topic/room/" + client.roomId, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                onFrame((JsonNode) payload);
+            }
+        });
+    }
+
+    private static final class Client {
+
+        private final String userId;
+        private final String userName;
+        private final String token;
+        private volatile String roomId;
+        private volatile StompSession session;
+
+        private Client(String userId, String userName, String token) {
+            this.userId = userId;
+            this.userName = userName;
+            this.token = token;
+        }
+    }
+
+    // 실행 옵션 (--name=value)
+    private static final class Options {
+
+        private int clients = 100;
+        private int rooms = 10;
+        private int rate = 1000;     // 전체 초당 전송 수
+        private int duration = 30;   // 측정 시간 (초)
+        private int warmup = 5;      // 측정 전 예열 시간 (초)
+        private int drain = 2;       // 전송 종료 후 수신을 기다리는 시간 (초)
+        private int senders = 8;     // 전송 스레드 수
+        private String target;       // 실행 중인 서버 주소 (없으면 내장 서버 실행)
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("옵션 형식은 --name=value 입니다: " + arg);
+                }
+                String name = arg.substring(2, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1);
+                switch (name) {
+                    case "clients" -> options.clients = Integer.parseInt(value);
+                    case "rooms" -> options.rooms = Integer.parseInt(value);
+                    case "rate" -> options.rate = Integer.parseInt(value);
+                    case "duration" -> options.duration = Integer.parseInt(value);
+                    case "warmup" -> options.warmup = Integer.parseInt(value);
+                    case "drain" -> options.drain = Integer.parseInt(value);
+                    case "senders" -> options.senders = Integer.parseInt(value);
+                    case "target" -> options.target = value;
+                    default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + name);
+                }
+            }
+            if (options.rooms < 1 || options.clients < options.rooms) {
+                throw new IllegalArgumentException("clients는 rooms 이상이어야 합니다.");
+            }
+            if ((options.clients + options.rooms - 1) / options.rooms > MAX_ROOM_MEMBER) {
+                throw new IllegalArgumentException("채팅방당 클라이언트 수는 " + MAX_ROOM_MEMBER + "명 이하여야 합니다.");
+            }
+            if (options.rate < 1 || options.duration < 1) {
+                throw new IllegalArgumentException("rate와 duration은 1 이상이어야 합니다.");
+            }
+            return options;
+        }
+    }
+}
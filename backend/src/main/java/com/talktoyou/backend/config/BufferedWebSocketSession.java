@@ -0,0 +1,237 @@
+package com.talktoyou.backend.config;
+
+import com.talktoyou.backend.service.RoomFrameCoalescer;
+import com.talktoyou.backend.service.RoomTopicSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 세션별 전송 버퍼
+// sendMessage는 프레임을 버퍼에 넣고 바로 반환하며, 실제 소켓 전송은 전송 전용 executor가 순서대로 처리한다
+// 버퍼가 한도를 넘으면 OutboundBufferPolicy의 overflow strategy를 적용한다
+@Slf4j
+public class BufferedWebSocketSession extends WebSocketSessionDecorator {
+
+    private static final String CHAT_EVENT = "CHAT";
+
+    private final OutboundBufferPolicy policy;
+
+    private final Deque<Frame> buffer = new ArrayDeque<>(); // buffer 락으로 보호
+    private long bufferedBytes;                              // buffer 락으로 보호
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile long sendStartTime; // 진행 중인 전송 시작 시각 (0이면 전송 중 아님)
+    private volatile boolean limitExceeded;
+
+    public BufferedWebSocketSession(WebSocketSession delegate, OutboundBufferPolicy policy) {
+        super(delegate);
+        this.policy = policy;
+    }
+
+    // 현재 전송 대기 중인 바이트 수
+    public long getBufferedBytes() {
+        synchronized (buffer) {
+            return bufferedBytes;
+        }
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (limitExceeded || !isOpen()) {
+            return;
+        }
+
+        // 한 프레임 전송이 제한 시간을 넘기고 있으면 응답하지 않는 클라이언트로 판단
+        long started = sendStartTime;
+        if (started > 0 && System.currentTimeMillis() - started > policy.getSendTimeLimit()) {
+            policy.onSendTimeoutDisconnect();
+            disconnect("전송 제한 시간 초과");
+            return;
+        }
+
+        Frame frame = Frame.of(message);
+        boolean overflow;
+        synchronized (buffer) {
+            boolean backlog = !buffer.isEmpty();
+            if (backlog && policy.getOverflowStrategy() == OutboundBufferPolicy.OverflowStrategy.COALESCE) {
+                coalesce(frame);
+            }
+            buffer.add(frame);
+            bufferedBytes += frame.size;
+            policy.onBuffered(bufferedBytes, frame.size);
+
+            overflow = bufferedBytes > policy.getSendBufferSizeLimit() && !evictOldest();
+        }
+
+        if (overflow) {
+            policy.onBufferOverflowDisconnect();
+            disconnect("전송 버퍼 초과");
+            return;
+        }
+        scheduleDrain();
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        clearBuffer();
+        super.close(status);
+    }
+
+    // 같은 destination/이벤트 종류의 이전 프레임을 제거 (최신 상태만 전달)
+    private void coalesce(Frame frame) {
+        if (frame.key == null) {
+            return;
+        }
+        Iterator<Frame> it = buffer.iterator();
+        while (it.hasNext()) {
+            Frame queued = it.next();
+            if (frame.key.equals(queued.key)) {
+                it.remove();
+                release(queued);
+                policy.onCoalesced();
+            }
+        }
+    }
+
+    // 한도 이하가 될 때까지 오래된 CHAT 이외 이벤트를 제거, 불가능하면 false
+    private boolean evictOldest() {
+        if (policy.getOverflowStrategy() == OutboundBufferPolicy.OverflowStrategy.DISCONNECT) {
+            return false;
+        }
+        Iterator<Frame> it = buffer.iterator();
+        while (bufferedBytes > policy.getSendBufferSizeLimit() && it.hasNext()) {
+            Frame queued = it.next();
+            if (queued.key != null) {
+                it.remove();
+                release(queued);
+                policy.onDropped();
+            }
+        }
+        return bufferedBytes <= policy.getSendBufferSizeLimit();
+    }
+
+    private void release(Frame frame) {
+        bufferedBytes -= frame.size;
+        policy.onBuffered(bufferedBytes, -frame.size);
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            policy.execute(this::drain);
+        }
+    }
+
+    // 버퍼가 빌 때까지 순서대로 전송 (세션당 하나의 작업만 실행)
+    private void drain() {
+        while (true) {
+            Frame frame;
+            synchronized (buffer) {
+                frame = buffer.poll();
+                if (frame == null) {
+                    draining.set(false);
+                    return;
+                }
+                release(frame);
+            }
+
+            sendStartTime = System.currentTimeMillis();
+            try {
+                getDelegate().sendMessage(frame.message);
+            } catch (Exception e) {
+                log.debug("WebSocket 전송 실패: sessionId={}", getId(), e);
+                clearBuffer();
+                draining.set(false);
+                return;
+            } finally {
+                sendStartTime = 0;
+            }
+        }
+    }
+
+    private void clearBuffer() {
+        synchronized (buffer) {
+            policy.onBuffered(0, -bufferedBytes);
+            buffer.clear();
+            bufferedBytes = 0;
+        }
+    }
+
+    private void disconnect(String reason) {
+        limitExceeded = true;
+        log.warn("느린 클라이언트 세션 종료 ({}): sessionId={}", reason, getId());
+        try {
+            close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("세션 종료 실패: sessionId={}", getId(), e);
+        }
+    }
+
+    // 전송 대기 프레임
+    // key는 버릴 수 있는 이벤트(CHAT 이외 이벤트)일 때만 destination|event-type, 그 외에는 null
+    private record Frame(WebSocketMessage<?> message, int size, String key) {
+
+        static Frame of(WebSocketMessage<?> message) {
+            return new Frame(message, message.getPayloadLength(), droppableKey(headerSection(message)));
+        }
+
+        // STOMP 프레임의 명령/헤더 부분 (빈 줄 이전)
+        // 본문은 읽지 않도록 첫 빈 줄까지만 확인한다
+        private static String headerSection(WebSocketMessage<?> message) {
+            if (message instanceof TextMessage text) {
+                String frame = text.getPayload();
+                int end = frame.indexOf("\n\n");
+                return end < 0 ? frame : frame.substring(0, end);
+            }
+            if (message instanceof BinaryMessage binary) {
+                ByteBuffer payload = binary.getPayload();
+                int start = payload.position();
+                int limit = payload.limit();
+                int end = limit;
+                for (int i = start; i + 1 < limit; i++) {
+                    if (payload.get(i) == '\n' && payload.get(i + 1) == '\n') {
+                        end = i;
+                        break;
+                    }
+                }
+                byte[] headers = new byte[end - start];
+                payload.get(start, headers);
+                return new String(headers, StandardCharsets.ISO_8859_1);
+            }
+            return null;
+        }
+
+        private static String droppableKey(String headers) {
+            if (headers == null || !headers.startsWith("MESSAGE")) {
+                return null; // CONNECTED, RECEIPT, ERROR 등은 항상 전달
+            }
+            String eventType = header(headers, RoomTopicSender.EVENT_TYPE_HEADER);
+            // 채팅 메시지와 채팅 메시지 묶음은 버리지 않음
+            if (eventType == null || CHAT_EVENT.equals(eventType) || RoomFrameCoalescer.BATCH_EVENT_TYPE.equals(eventType)) {
+                return null;
+            }
+            return header(headers, "destination") + "|" + eventType;
+        }
+
+        private static String header(String headers, String name) {
+            String prefix = "\n" + name + ":";
+            int start = headers.indexOf(prefix);
+            if (start < 0) {
+                return null;
+            }
+            start += prefix.length();
+            int end = headers.indexOf('\n', start);
+            return end < 0 ? headers.substring(start) : headers.substring(start, end);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.talktoyou.backend.config;
+
+import com.talktoyou.backend.service.RoomTopicSender;
+import com.talktoyou.backend.util.CompactChatCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// STOMP content-type 협상으로 구독별 CBOR 전송
+// SUBSCRIBE 프레임에 content-type:application/cbor 를 지정한 구독은 브로드캐스트를 CBOR로 받는다
+// (CBOR는 이 노드에 CBOR 구독이 있는 destination만 RoomTopicSender가 프레임당 한 번 인코딩하고, 여기서는 세션별로 보낼 payload만 고른다)
+// (바이너리 프레임으로 보내기 위해 content-type은 application/octet-stream, 형식은 codec 헤더로 알림, SockJS 미지원)
+@Slf4j
+@Component
+public class CborSubscriptionInterceptor {
+
+    public static final String CODEC_HEADER = "codec";
+    private static final String CODEC_CBOR = "cbor";
+
+    // sessionId -> (CBOR를 요청한 subscriptionId -> destination)
+    private final Map<String, Map<String, String>> cborSubscriptions = new ConcurrentHashMap<>();
+    // destination -> CBOR 구독 수
+    private final Map<String, Integer> destinationCounts = new ConcurrentHashMap<>();
+
+    // clientInboundChannel: 구독/해제/연결 종료 추적
+    public ChannelInterceptor inbound() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+                if (accessor != null && accessor.getCommand() != null && accessor.getSessionId() != null) {
+                    track(accessor);
+                }
+                return message;
+            }
+        };
+    }
+
+    // clientOutboundChannel: CBOR 구독으로 가는 MESSAGE의 payload 교체
+    public ChannelInterceptor outbound() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                return selectPayload(message);
+            }
+        };
+    }
+
+    // 현재 노드에 이 destination을 CBOR로 받는 구독이 있는지
+    public boolean hasSubscribers(String destination) {
+        return destinationCounts.containsKey(destination);
+    }
+
+    private void track(StompHeaderAccessor accessor) {
+        String sessionId = accessor.getSessionId();
+        StompCommand command = accessor.getCommand();
+
+        if (command == StompCommand.SUBSCRIBE && accessor.getSubscriptionId() != null) {
+            MimeType contentType = accessor.getContentType();
+            String destination = accessor.getDestination();
+            if (destination != null && contentType != null && CompactChatCodec.CBOR.equalsTypeAndSubtype(contentType)) {
+                String previous = cborSubscriptions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                        .put(accessor.getSubscriptionId(), destination);
+                if (previous != null) {
+                    release(previous);
+                }
+                destinationCounts.merge(destination, 1, Integer::sum);
+                log.debug("CBOR 구독: sessionId={}, destination={}", sessionId, destination);
+            }
+        } else if (command == StompCommand.UNSUBSCRIBE && accessor.getSubscriptionId() != null) {
+            Map<String, String> subscriptions = cborSubscriptions.get(sessionId);
+            String destination = subscriptions == null ? null : subscriptions.remove(accessor.getSubscriptionId());
+            if (destination != null) {
+                release(destination);
+            }
+            cborSubscriptions.computeIfPresent(sessionId, (key, remaining) -> remaining.isEmpty() ? null : remaining);
+        } else if (command == StompCommand.DISCONNECT) {
+            Map<String, String> subscriptions = cborSubscriptions.remove(sessionId);
+            if (subscriptions != null) {
+                subscriptions.values().forEach(this::release);
+            }
+        }
+    }
+
+    private void release(String destination) {
+        destinationCounts.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private Message<?> selectPayload(Message<?> message) {
+        SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+        if (accessor == null || accessor.getMessageType() != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        Map<String, String> subscriptions = cborSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || !subscriptions.containsKey(accessor.getSubscriptionId())) {
+            return message;
+        }
+
+        // CBOR 인코딩이 함께 실린 채팅방 브로드캐스트만 교체
+        if (!(accessor.getHeader(RoomTopicSender.CBOR_PAYLOAD_HEADER) instanceof byte[] cbor)) {
+            return message;
+        }
+
+        SimpMessageHeaderAccessor cborAccessor = SimpMessageHeaderAccessor.wrap(message);
+        cborAccessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        cborAccessor.setNativeHeader(CODEC_HEADER, CODEC_CBOR);
+        cborAccessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(cbor, cborAccessor.getMessageHeaders());
+    }
+}
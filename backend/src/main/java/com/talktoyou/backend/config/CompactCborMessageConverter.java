@@ -0,0 +1,34 @@
+package com.talktoyou.backend.config;
+
+import com.talktoyou.backend.dto.ChatMessage;
+import com.talktoyou.backend.util.CompactChatCodec;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+
+// content-type:application/cbor 로 전송된 ChatMessage 변환 (@MessageMapping 인자)
+public class CompactCborMessageConverter extends AbstractMessageConverter {
+
+    private final CompactChatCodec codec;
+
+    public CompactCborMessageConverter(CompactChatCodec codec) {
+        super(CompactChatCodec.CBOR);
+        this.codec = codec;
+        setStrictContentTypeMatch(true); // content-type이 없는 메시지는 기본 JSON 변환기로
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ChatMessage.class.equals(clazz);
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        return message.getPayload() instanceof byte[] bytes ? codec.decode(bytes) : null;
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        return codec.encode((ChatMessage) payload);
+    }
+}
@@ -0,0 +1,47 @@
+package com.talktoyou.backend.config;
+
+import com.talktoyou.backend.entity.ChatRoom;
+import com.talktoyou.backend.entity.Message;
+import com.talktoyou.backend.entity.RoomMember;
+import com.talktoyou.backend.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+// 엔티티에 선언된 인덱스(@Indexed, @CompoundIndex)를 애플리케이션 시작 후 생성
+// (auto-index-creation은 기본 비활성화되어 있어 어노테이션만으로는 인덱스가 만들어지지 않음)
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MongoIndexConfig {
+
+    private static final List<Class<?>> INDEXED_ENTITIES =
+            List.of(User.class, ChatRoom.class, RoomMember.class, Message.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndexes() {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+
+        for (Class<?> entityType : INDEXED_ENTITIES) {
+            try {
+                IndexOperations indexOps = mongoTemplate.indexOps(entityType);
+                resolver.resolveIndexFor(entityType).forEach(indexOps::createIndex);
+                log.info("MongoDB 인덱스 확인 완료: {}", entityType.getSimpleName());
+            } catch (Exception e) {
+                log.error("MongoDB 인덱스 생성 실패: {}", entityType.getSimpleName(), e);
+            }
+        }
+    }
+}
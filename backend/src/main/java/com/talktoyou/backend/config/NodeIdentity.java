@@ -0,0 +1,14 @@
+package com.talktoyou.backend.config;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// 현재 서버 인스턴스 식별자 (Redis pub/sub 메시지에서 자신이 보낸 메시지를 구분하는 용도)
+@Getter
+@Component
+public class NodeIdentity {
+
+    private final String nodeId = UUID.randomUUID().toString();
+}
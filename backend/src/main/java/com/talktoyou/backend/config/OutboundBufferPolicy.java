@@ -0,0 +1,159 @@
+package com.talktoyou.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 느린 클라이언트 대응: 세션별 전송 버퍼 한도와 초과 시 처리 방식(overflow strategy)
+// 모든 WebSocket 세션을 BufferedWebSocketSession으로 감싸 outbound 스레드가 느린 소켓에 묶이지 않도록 한다
+@Slf4j
+@Component
+public class OutboundBufferPolicy implements WebSocketHandlerDecoratorFactory {
+
+    public enum OverflowStrategy {
+        DROP_OLDEST, // 가장 오래된 CHAT 이외 이벤트부터 버림
+        COALESCE,    // 같은 destination/이벤트 종류는 최신 것만 남기고, 그래도 넘치면 DROP_OLDEST
+        DISCONNECT   // 세션 종료
+    }
+
+    @Getter
+    private final int sendTimeLimit;
+    @Getter
+    private final int sendBufferSizeLimit;
+    @Getter
+    private final int messageSizeLimit;
+    @Getter
+    private final OverflowStrategy overflowStrategy;
+
+    private final TaskExecutor sendExecutor;
+
+    // 전체 세션의 전송 대기 바이트 수
+    private final AtomicLong totalBufferedBytes = new AtomicLong();
+
+    private final DistributionSummary bufferedBytesSummary;
+    private final Counter droppedCounter;
+    private final Counter coalescedCounter;
+    private final Counter bufferDisconnectCounter;
+    private final Counter timeoutDisconnectCounter;
+
+    public OutboundBufferPolicy(
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${app.websocket.send-time-limit:10000}") int sendTimeLimit,
+            @Value("${app.websocket.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+            @Value("${app.websocket.message-size-limit:65536}") int messageSizeLimit,
+            @Value("${app.websocket.overflow-strategy:drop-oldest}") String overflowStrategy,
+            @Value("${app.websocket.send-pool-size:16}") int sendPoolSize) {
+
+        this.sendTimeLimit = sendTimeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.messageSizeLimit = messageSizeLimit;
+        this.overflowStrategy = OverflowStrategy.valueOf(overflowStrategy.toUpperCase().replace('-', '_'));
+        this.sendExecutor = createSendExecutor(environment, sendPoolSize);
+
+        Gauge.builder("chat.websocket.buffered.bytes", totalBufferedBytes, AtomicLong::get)
+                .description("전체 세션의 전송 대기 바이트 수")
+                .register(meterRegistry);
+        this.bufferedBytesSummary = DistributionSummary.builder("chat.websocket.session.buffered.bytes")
+                .description("프레임 추가 시점의 세션별 전송 대기 바이트 수")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.droppedCounter = evictionCounter(meterRegistry, "dropped");
+        this.coalescedCounter = evictionCounter(meterRegistry, "coalesced");
+        this.bufferDisconnectCounter = disconnectCounter(meterRegistry, "buffer");
+        this.timeoutDisconnectCounter = disconnectCounter(meterRegistry, "timeout");
+
+        log.info("WebSocket 전송 버퍼 정책: limit={}bytes, sendTimeLimit={}ms, strategy={}",
+                sendBufferSizeLimit, sendTimeLimit, this.overflowStrategy);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(new BufferedWebSocketSession(session, OutboundBufferPolicy.this));
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sendExecutor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    void execute(Runnable task) {
+        sendExecutor.execute(task);
+    }
+
+    void onBuffered(long sessionBufferedBytes, long delta) {
+        totalBufferedBytes.addAndGet(delta);
+        if (delta > 0) {
+            bufferedBytesSummary.record(sessionBufferedBytes);
+        }
+    }
+
+    void onDropped() {
+        droppedCounter.increment();
+    }
+
+    void onCoalesced() {
+        coalescedCounter.increment();
+    }
+
+    void onBufferOverflowDisconnect() {
+        bufferDisconnectCounter.increment();
+    }
+
+    void onSendTimeoutDisconnect() {
+        timeoutDisconnectCounter.increment();
+    }
+
+    // 실제 소켓 전송을 수행할 executor (가상 스레드 모드면 가상 스레드 사용)
+    private static TaskExecutor createSendExecutor(Environment environment, int poolSize) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return new VirtualThreadTaskExecutor("ws-send-");
+        }
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(poolSize);
+        pool.setMaxPoolSize(poolSize);
+        pool.setThreadNamePrefix("ws-send-");
+        pool.setDaemon(true);
+        pool.initialize();
+        return pool;
+    }
+
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("chat.websocket.session.evicted")
+                .description("전송 버퍼 초과로 제거된 프레임 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static Counter disconnectCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("chat.websocket.session.disconnected")
+                .description("느린 클라이언트로 판단되어 종료된 세션 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
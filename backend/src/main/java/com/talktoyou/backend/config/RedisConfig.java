@@ -3,9 +3,11 @@ package com.talktoyou.backend.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -17,6 +19,9 @@ public class RedisConfig {
     @Value("${spring.data.redis.port:6379}")
     private int port;
 
+    @Value("${app.redis.listener.retry-interval:5000}")
+    private long recoveryInterval;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory(host, port);
@@ -36,4 +41,22 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    // Redis pub/sub 구독용 리스너 컨테이너 (노드 간 캐시 무효화 등)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        // 시작은 RedisListenerStarter가 담당 (Redis 없이도 애플리케이션이 뜨도록)
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public boolean isAutoStartup() {
+                return false;
+            }
+        };
+        container.setConnectionFactory(connectionFactory);
+        // 수신 순서대로 처리 (기본 executor는 메시지마다 새 스레드를 사용해 순서가 보장되지 않음)
+        container.setTaskExecutor(new SyncTaskExecutor());
+        // 구독 중 연결이 끊기면 이 간격으로 재연결
+        container.setRecoveryInterval(recoveryInterval);
+        return container;
+    }
 }
\ No newline at end of file
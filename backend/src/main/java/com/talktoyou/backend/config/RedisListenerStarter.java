@@ -0,0 +1,84 @@
+package com.talktoyou.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+// Redis pub/sub 구독 시작
+// 시작 시 Redis에 연결할 수 없어도 애플리케이션은 그대로 뜨고, 백그라운드에서 재시도하며 구독한다
+// (구독 전까지는 노드 간 캐시 무효화를 받지 못하므로 각 캐시의 TTL과 Redis 장애 처리 정책에 따름)
+@Slf4j
+@Component
+public class RedisListenerStarter implements SmartLifecycle {
+
+    private final RedisMessageListenerContainer container;
+    private final long retryIntervalMillis;
+
+    private volatile boolean running;
+    private volatile Thread retryThread;
+
+    public RedisListenerStarter(
+            RedisMessageListenerContainer container,
+            @Value("${app.redis.listener.retry-interval:5000}") long retryIntervalMillis) {
+        this.container = container;
+        this.retryIntervalMillis = retryIntervalMillis;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        // Redis가 떠 있으면 시작 시점에 바로 구독 (다른 빈이 시작 직후 메시지를 받을 수 있도록)
+        if (tryStart()) {
+            return;
+        }
+        log.warn("Redis 구독을 시작하지 못했습니다. {}ms 간격으로 재시도합니다", retryIntervalMillis);
+        Thread thread = new Thread(this::retryUntilStarted, "redis-listener-starter");
+        thread.setDaemon(true);
+        retryThread = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = retryThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        container.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void retryUntilStarted() {
+        while (running) {
+            try {
+                Thread.sleep(retryIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (tryStart()) {
+                log.info("Redis 구독을 시작했습니다");
+                return;
+            }
+        }
+    }
+
+    private boolean tryStart() {
+        try {
+            container.start();
+            return true;
+        } catch (Exception e) {
+            log.debug("Redis 구독 시작 실패", e);
+            // 실패한 시작 상태를 정리해야 다음 start()가 다시 구독을 시도한다
+            container.stop();
+            return false;
+        }
+    }
+}
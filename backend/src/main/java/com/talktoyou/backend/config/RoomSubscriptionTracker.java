@@ -0,0 +1,146 @@
+package com.talktoyou.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 현재 노드에서 /topic/room/{roomId}(및 하위 경로)를 구독 중인 세션 수를 채팅방별로 추적
+// 첫 구독자가 생기거나 마지막 구독자가 떠날 때 리스너에 알린다
+@Slf4j
+@Component
+public class RoomSubscriptionTracker {
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/room/";
+    private static final int NOTIFY_LOCK_STRIPES = 64;
+
+    public interface Listener {
+
+        // 채팅방의 첫 로컬 구독자가 생김
+        void onFirstSubscriber(String roomId);
+
+        // 채팅방의 마지막 로컬 구독자가 떠남
+        void onLastSubscriberGone(String roomId);
+    }
+
+    // sessionId -> (subscriptionId -> roomId)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // roomId -> 로컬 구독 수
+    private final Map<String, Integer> roomSubscriberCounts = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    // 리스너 호출 순서 보장용 채팅방별 락 (roomId 해시로 분산)
+    private final Object[] notifyLocks = new Object[NOTIFY_LOCK_STRIPES];
+    // 리스너에 첫 구독자를 알린 채팅방 (notifyLocks로 보호)
+    private final Set<String> notifiedRooms = ConcurrentHashMap.newKeySet();
+
+    public RoomSubscriptionTracker() {
+        for (int i = 0; i < NOTIFY_LOCK_STRIPES; i++) {
+            notifyLocks[i] = new Object();
+        }
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    // 채팅방의 현재 노드 구독 수
+    public int getLocalSubscriberCount(String roomId) {
+        return roomSubscriberCounts.getOrDefault(roomId, 0);
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String roomId = extractRoomId(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String previous = sessionSubscriptions
+                .computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), roomId);
+        if (previous == null) {
+            increment(roomId);
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = accessor.getSessionId() != null
+                ? sessionSubscriptions.get(accessor.getSessionId()) : null;
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String roomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (roomId != null) {
+            decrement(roomId);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    // 구독 수는 compute로 원자적으로 바꾸고, 리스너 호출(Redis 구독 등 네트워크 I/O)은 맵 락 밖에서 수행
+    private void increment(String roomId) {
+        if (roomSubscriberCounts.merge(roomId, 1, Integer::sum) == 1) {
+            notifyListeners(roomId);
+        }
+    }
+
+    private void decrement(String roomId) {
+        Integer remaining = roomSubscriberCounts.computeIfPresent(roomId,
+                (key, count) -> count <= 1 ? null : count - 1);
+        if (remaining == null) {
+            notifyListeners(roomId);
+        }
+    }
+
+    // 현재 구독 여부와 리스너에 알린 상태를 맞춘다 (채팅방별 락 안에서 수행하여 첫/마지막 알림이 번갈아 순서대로 전달됨)
+    // 다른 스레드가 그 사이 상태를 다시 바꿨다면 해당 스레드의 호출에서 이어서 맞춘다
+    private void notifyListeners(String roomId) {
+        synchronized (notifyLocks[Math.floorMod(roomId.hashCode(), NOTIFY_LOCK_STRIPES)]) {
+            boolean subscribed = roomSubscriberCounts.containsKey(roomId);
+            if (subscribed && notifiedRooms.add(roomId)) {
+                listeners.forEach(listener -> notify(() -> listener.onFirstSubscriber(roomId)));
+            } else if (!subscribed && notifiedRooms.remove(roomId)) {
+                listeners.forEach(listener -> notify(() -> listener.onLastSubscriberGone(roomId)));
+            }
+        }
+    }
+
+    private void notify(Runnable callback) {
+        try {
+            callback.run();
+        } catch (Exception e) {
+            log.error("채팅방 구독 변경 처리 중 오류 발생", e);
+        }
+    }
+
+    // /topic/room/{roomId} 또는 /topic/room/{roomId}/... 에서 roomId 추출
+    private String extractRoomId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_TOPIC_PREFIX)) {
+            return null;
+        }
+        String rest = destination.substring(ROOM_TOPIC_PREFIX.length());
+        int slash = rest.indexOf('/');
+        String roomId = slash < 0 ? rest : rest.substring(0, slash);
+        return roomId.isEmpty() ? null : roomId;
+    }
+}
@@ -0,0 +1,67 @@
+package com.talktoyou.backend.config;
+
+import com.talktoyou.backend.service.TokenBlacklistService;
+import com.talktoyou.backend.util.JwtUtil;
+import com.talktoyou.backend.util.TokenClaims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// STOMP CONNECT 시 Authorization 헤더의 JWT를 한 번 검증하고 사용자 정보를 세션에 저장
+// 토큰이 없거나 유효하지 않으면 연결을 거부한다 (이후 메시지의 사용자 정보는 세션 값만 신뢰)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final TokenBlacklistService tokenBlacklistService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String authHeader = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            throw new MessageDeliveryException("인증 토큰이 필요합니다.");
+        }
+
+        String token = authHeader.substring(BEARER_PREFIX.length());
+        TokenClaims claims;
+        try {
+            claims = jwtUtil.parseToken(token);
+        } catch (Exception e) {
+            throw new MessageDeliveryException("유효하지 않은 토큰입니다.");
+        }
+        if (tokenBlacklistService.isBlacklisted(token)) {
+            throw new MessageDeliveryException("유효하지 않은 토큰입니다.");
+        }
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes != null) {
+            attributes.put(StompSessionAttributes.USER_ID, claims.getUserId());
+            attributes.put(StompSessionAttributes.USER_NAME, claims.getUserName());
+        }
+        // /user 목적지 사용을 위해 세션 사용자 지정
+        String userId = claims.getUserId();
+        accessor.setUser(() -> userId);
+
+        log.debug("STOMP 연결 인증: sessionId={}, userId={}", accessor.getSessionId(), userId);
+        return message;
+    }
+}
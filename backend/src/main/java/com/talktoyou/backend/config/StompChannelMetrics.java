@@ -0,0 +1,44 @@
+package com.talktoyou.backend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// STOMP 채널 실행기 상태 게이지 (stomp.channel.queued / stomp.channel.active, channel=inbound|outbound)
+// 가상 스레드 모드에서는 메시지마다 스레드를 만들어 대기열이 없으므로 등록하지 않는다
+@Slf4j
+@Component
+public class StompChannelMetrics {
+
+    public StompChannelMetrics(MeterRegistry meterRegistry,
+                               @Qualifier("clientInboundChannel") AbstractSubscribableChannel clientInboundChannel,
+                               @Qualifier("clientOutboundChannel") AbstractSubscribableChannel clientOutboundChannel) {
+        register(meterRegistry, "inbound", clientInboundChannel);
+        register(meterRegistry, "outbound", clientOutboundChannel);
+    }
+
+    private static void register(MeterRegistry meterRegistry, String name, AbstractSubscribableChannel channel) {
+        if (!(channel instanceof ExecutorSubscribableChannel executorChannel)
+                || !(executorChannel.getExecutor() instanceof ThreadPoolTaskExecutor pool)) {
+            log.debug("STOMP 채널 대기열 게이지 미등록: channel={}", name);
+            return;
+        }
+
+        ThreadPoolExecutor executor = pool.getThreadPoolExecutor();
+        Gauge.builder("stomp.channel.queued", executor, e -> e.getQueue().size())
+                .description("STOMP 채널 실행기에서 처리를 기다리는 메시지 수")
+                .tag("channel", name)
+                .register(meterRegistry);
+        Gauge.builder("stomp.channel.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("STOMP 채널 실행기에서 처리 중인 스레드 수")
+                .tag("channel", name)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,97 @@
+package com.talktoyou.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageMappingInfo;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// @MessageMapping 핸들러 처리 시간 (clientInboundChannel 실행 스레드에서 측정, payload 변환 포함)
+// destination 태그는 실제 경로 대신 매핑 패턴(/chat/{roomId}/typing 등)을 사용해 태그 수를 제한한다
+@Component
+public class StompHandlerMetricsInterceptor implements ExecutorChannelInterceptor {
+
+    private static final String UNMATCHED = "unmatched";
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<Long> startTime = new ThreadLocal<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private volatile List<String> patterns;
+
+    public StompHandlerMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler) {
+            startTime.set(System.nanoTime());
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                    Exception ex) {
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler annotationHandler)) {
+            return;
+        }
+        Long start = startTime.get();
+        startTime.remove();
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (start == null || destination == null) {
+            return;
+        }
+
+        String pattern = matchPattern(annotationHandler, destination);
+        timers.computeIfAbsent(pattern, key -> Timer.builder("stomp.handler")
+                        .description("@MessageMapping 핸들러 처리 시간")
+                        .tag("destination", pattern)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    // destination prefix(/app)를 뺀 경로와 일치하는 매핑 패턴
+    private String matchPattern(SimpAnnotationMethodMessageHandler handler, String destination) {
+        String lookup = null;
+        for (String prefix : handler.getDestinationPrefixes()) {
+            if (destination.startsWith(prefix)) {
+                lookup = destination.substring(prefix.length() - (prefix.endsWith("/") ? 1 : 0));
+                break;
+            }
+        }
+        if (lookup == null) {
+            return UNMATCHED;
+        }
+        for (String pattern : patternsOf(handler)) {
+            if (handler.getPathMatcher().match(pattern, lookup)) {
+                return pattern;
+            }
+        }
+        return UNMATCHED;
+    }
+
+    private List<String> patternsOf(SimpAnnotationMethodMessageHandler handler) {
+        List<String> result = patterns;
+        if (result == null) {
+            result = new ArrayList<>();
+            for (SimpMessageMappingInfo mapping : handler.getHandlerMethods().keySet()) {
+                result.addAll(mapping.getDestinationConditions().getPatterns());
+            }
+            patterns = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,180 @@
+package com.talktoyou.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talktoyou.backend.dto.response.ApiResponse;
+import com.talktoyou.backend.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+// STOMP SEND 프레임 전송 한도 (세션별, 사용자별 토큰 버킷)
+// 핸들러 실행 전에 검사하므로 초과한 프레임은 멤버십 확인/저장/브로드캐스트 비용 없이 버려진다
+// 거부 시 해당 세션에만 /user/queue/errors로 알림 (세션당 초당 최대 한 번)
+// 입력 중 알림(/app/chat/{roomId}/typing)은 키 입력마다 올 수 있으므로 채팅 전송 한도를 쓰지 않고 세션별 별도 버킷으로 제한한다
+@Slf4j
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    public static final String ERROR_DESTINATION = "/queue/errors";
+    private static final String NOTIFIED_AT = "rateLimitNotifiedAt";
+    private static final long NOTIFY_INTERVAL_MILLIS = 1000;
+    private static final String CHAT_DESTINATION_PREFIX = "/app/chat/";
+    private static final String TYPING_DESTINATION_SUFFIX = "/typing";
+
+    // 사용하지 않는 버킷은 이미 가득 찬 상태이므로 제거해도 결과가 같다
+    private static final Duration IDLE_EXPIRY = Duration.ofMinutes(1);
+
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+
+    private final int sessionBurst;
+    private final double sessionRefillPerSecond;
+    private final int userBurst;
+    private final double userRefillPerSecond;
+    private final int typingBurst;
+    private final double typingRefillPerSecond;
+
+    private final Cache<String, TokenBucket> sessionBuckets = Caffeine.newBuilder()
+            .expireAfterAccess(IDLE_EXPIRY)
+            .build();
+    private final Cache<String, TokenBucket> userBuckets = Caffeine.newBuilder()
+            .expireAfterAccess(IDLE_EXPIRY)
+            .build();
+    private final Cache<String, TokenBucket> typingBuckets = Caffeine.newBuilder()
+            .expireAfterAccess(IDLE_EXPIRY)
+            .build();
+
+    private final Counter sessionDroppedCounter;
+    private final Counter userDroppedCounter;
+    private final Counter typingDroppedCounter;
+
+    // SimpMessagingTemplate은 이 인터셉터를 등록하는 브로커 설정에서 만들어지므로 지연 조회
+    public StompRateLimitInterceptor(
+            ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.websocket.rate-limit.session.burst:20}") int sessionBurst,
+            @Value("${app.websocket.rate-limit.session.refill-per-second:10}") double sessionRefillPerSecond,
+            @Value("${app.websocket.rate-limit.user.burst:40}") int userBurst,
+            @Value("${app.websocket.rate-limit.user.refill-per-second:20}") double userRefillPerSecond,
+            @Value("${app.websocket.rate-limit.typing.burst:20}") int typingBurst,
+            @Value("${app.websocket.rate-limit.typing.refill-per-second:15}") double typingRefillPerSecond) {
+
+        this.messagingTemplate = messagingTemplate;
+        this.sessionBurst = sessionBurst;
+        this.sessionRefillPerSecond = sessionRefillPerSecond;
+        this.userBurst = userBurst;
+        this.userRefillPerSecond = userRefillPerSecond;
+        this.typingBurst = typingBurst;
+        this.typingRefillPerSecond = typingRefillPerSecond;
+        this.sessionDroppedCounter = droppedCounter(meterRegistry, "session");
+        this.userDroppedCounter = droppedCounter(meterRegistry, "user");
+        this.typingDroppedCounter = droppedCounter(meterRegistry, "typing");
+
+        log.info("STOMP 전송 한도: session(burst={}, refill={}/s), user(burst={}, refill={}/s), typing(burst={}, refill={}/s)",
+                sessionBurst, sessionRefillPerSecond, userBurst, userRefillPerSecond,
+                typingBurst, typingRefillPerSecond);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getSessionId() == null) {
+            return message;
+        }
+
+        String sessionId = accessor.getSessionId();
+        if (accessor.getCommand() == StompCommand.DISCONNECT) {
+            sessionBuckets.invalidate(sessionId);
+            typingBuckets.invalidate(sessionId);
+            return message;
+        }
+        if (accessor.getCommand() != StompCommand.SEND) {
+            return message;
+        }
+
+        long now = System.nanoTime();
+        if (isTyping(accessor.getDestination())) {
+            // 입력 중 알림은 버려도 다음 신호로 복구되므로 알림 없이 버린다
+            TokenBucket typingBucket = typingBuckets.get(sessionId,
+                    key -> new TokenBucket(typingBurst, typingRefillPerSecond));
+            if (!typingBucket.tryAcquire(now)) {
+                typingDroppedCounter.increment();
+                return null;
+            }
+            return message;
+        }
+
+        TokenBucket sessionBucket = sessionBuckets.get(sessionId,
+                key -> new TokenBucket(sessionBurst, sessionRefillPerSecond));
+        if (!sessionBucket.tryAcquire(now)) {
+            sessionDroppedCounter.increment();
+            reject(accessor);
+            return null;
+        }
+
+        // 같은 사용자가 여러 세션을 열어 한도를 우회하지 못하도록 사용자 단위로도 제한
+        String userId = StompSessionAttributes.getUserId(accessor.getSessionAttributes());
+        if (userId != null) {
+            TokenBucket userBucket = userBuckets.get(userId,
+                    key -> new TokenBucket(userBurst, userRefillPerSecond));
+            if (!userBucket.tryAcquire(now)) {
+                userDroppedCounter.increment();
+                reject(accessor);
+                return null;
+            }
+        }
+
+        return message;
+    }
+
+    private static boolean isTyping(String destination) {
+        return destination != null
+                && destination.startsWith(CHAT_DESTINATION_PREFIX)
+                && destination.endsWith(TYPING_DESTINATION_SUFFIX);
+    }
+
+    private void reject(StompHeaderAccessor accessor) {
+        String sessionId = accessor.getSessionId();
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes != null) {
+            long nowMillis = System.currentTimeMillis();
+            Long notifiedAt = (Long) attributes.get(NOTIFIED_AT);
+            if (notifiedAt != null && nowMillis - notifiedAt < NOTIFY_INTERVAL_MILLIS) {
+                return;
+            }
+            attributes.put(NOTIFIED_AT, nowMillis);
+        }
+
+        log.debug("STOMP 전송 한도 초과: sessionId={}, destination={}", sessionId, accessor.getDestination());
+
+        // 사용자 이름 대신 세션 ID를 지정하면 해당 세션에만 전달된다 (인증 전 세션 포함)
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        messagingTemplate.getObject().convertAndSendToUser(sessionId, ERROR_DESTINATION,
+                ApiResponse.failure("메시지 전송 한도를 초과했습니다. 잠시 후 다시 시도해주세요.", "RATE_LIMITED"),
+                headers.getMessageHeaders());
+    }
+
+    private static Counter droppedCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("chat.websocket.send.rejected")
+                .description("전송 한도 초과로 버려진 STOMP SEND 프레임 수")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.talktoyou.backend.config;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// WebSocket 세션 속성 키와 접근 헬퍼
+// 사용자 정보는 STOMP CONNECT 인증 시 한 번만 저장하고, 메시지 처리와 연결 종료 처리는 이 값만 사용한다
+public final class StompSessionAttributes {
+
+    public static final String USER_ID = "userId";
+    public static final String USER_NAME = "userName";
+    public static final String JOINED_ROOMS = "joinedRooms";
+
+    private StompSessionAttributes() {
+    }
+
+    public static String getUserId(Map<String, Object> attributes) {
+        return attributes == null ? null : (String) attributes.get(USER_ID);
+    }
+
+    public static String getUserName(Map<String, Object> attributes) {
+        return attributes == null ? null : (String) attributes.get(USER_NAME);
+    }
+
+    // 세션이 입장한 채팅방 목록 (없으면 생성)
+    @SuppressWarnings("unchecked")
+    public static Set<String> joinedRooms(Map<String, Object> attributes) {
+        return (Set<String>) attributes.computeIfAbsent(JOINED_ROOMS, key -> ConcurrentHashMap.newKeySet());
+    }
+
+    // 세션이 입장한 채팅방 목록 (없으면 빈 목록)
+    @SuppressWarnings("unchecked")
+    public static Set<String> getJoinedRooms(Map<String, Object> attributes) {
+        Object rooms = attributes == null ? null : attributes.get(JOINED_ROOMS);
+        return rooms == null ? Set.of() : (Set<String>) rooms;
+    }
+}
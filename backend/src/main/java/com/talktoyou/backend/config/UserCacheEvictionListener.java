@@ -0,0 +1,34 @@
+package com.talktoyou.backend.config;
+
+import com.talktoyou.backend.entity.User;
+import com.talktoyou.backend.service.UserSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+// User 문서가 저장/삭제되면 사용자 요약 캐시를 무효화
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictionListener extends AbstractMongoEventListener<User> {
+
+    private final UserSummaryService userSummaryService;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<User> event) {
+        userSummaryService.invalidate(event.getSource().getUserId());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<User> event) {
+        Object id = event.getSource().get("_id");
+        if (id instanceof ObjectId || id instanceof String) {
+            userSummaryService.invalidate(id.toString());
+        } else {
+            // 조건 삭제는 대상 ID를 알 수 없으므로 전체 무효화
+            userSummaryService.invalidateAll();
+        }
+    }
+}
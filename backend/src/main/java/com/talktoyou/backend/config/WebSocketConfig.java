@@ -1,15 +1,55 @@
 package com.talktoyou.backend.config;
 
+import com.talktoyou.backend.util.CompactChatCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.List;
+
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // 가상 스레드 모드 (vthreads 프로필에서 활성화, Tomcat 요청 처리도 함께 전환됨)
+    // 플랫폼 스레드 풀과의 비교는 ChannelExecutorBenchmark 참고
+    private final boolean virtualThreads;
+    private final OutboundBufferPolicy outboundBufferPolicy;
+    private final CborSubscriptionInterceptor cborSubscriptionInterceptor;
+    private final CompactChatCodec compactChatCodec;
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
+    private final StompHandlerMetricsInterceptor stompHandlerMetricsInterceptor;
+
+    public WebSocketConfig(Environment environment,
+                           OutboundBufferPolicy outboundBufferPolicy,
+                           CborSubscriptionInterceptor cborSubscriptionInterceptor,
+                           CompactChatCodec compactChatCodec,
+                           StompAuthChannelInterceptor stompAuthChannelInterceptor,
+                           StompRateLimitInterceptor stompRateLimitInterceptor,
+                           StompHandlerMetricsInterceptor stompHandlerMetricsInterceptor) {
+        this.outboundBufferPolicy = outboundBufferPolicy;
+        this.cborSubscriptionInterceptor = cborSubscriptionInterceptor;
+        this.compactChatCodec = compactChatCodec;
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+        this.stompRateLimitInterceptor = stompRateLimitInterceptor;
+        this.stompHandlerMetricsInterceptor = stompHandlerMetricsInterceptor;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+        if (virtualThreads) {
+            log.info("STOMP 채널을 가상 스레드로 실행합니다");
+        }
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트로 메시지를 보낼 때 prefix
@@ -17,6 +57,47 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
         // 클라이언트에서 서버로 메시지를 보낼 때 prefix
         config.setApplicationDestinationPrefixes("/app");
+
+        if (virtualThreads) {
+            config.configureBrokerChannel().executor(new VirtualThreadTaskExecutor("stomp-broker-"));
+            // 메시지마다 새 스레드가 실행되므로 세션별 전송 순서를 보장
+            config.setPreservePublishOrder(true);
+        }
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 느린 클라이언트 대응: 세션별 전송 버퍼는 OutboundBufferPolicy가 관리
+        registration.setSendTimeLimit(outboundBufferPolicy.getSendTimeLimit())
+                .setSendBufferSizeLimit(outboundBufferPolicy.getSendBufferSizeLimit())
+                .setMessageSizeLimit(outboundBufferPolicy.getMessageSizeLimit())
+                .addDecoratorFactory(outboundBufferPolicy);
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        // content-type:application/cbor 로 보낸 메시지 수신 (나머지는 기본 JSON 변환기 사용)
+        messageConverters.add(new CompactCborMessageConverter(compactChatCodec));
+        return true;
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 전송 한도 검사는 인증 직후, 핸들러 실행 전에 수행
+        registration.interceptors(stompAuthChannelInterceptor, stompRateLimitInterceptor,
+                cborSubscriptionInterceptor.inbound(), stompHandlerMetricsInterceptor);
+        if (virtualThreads) {
+            // 핸들러의 블로킹 MongoDB 호출이 플랫폼 스레드 풀을 점유하지 않도록 함
+            registration.executor(new VirtualThreadTaskExecutor("stomp-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(cborSubscriptionInterceptor.outbound());
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor("stomp-outbound-"));
+        }
     }
 
     @Override
@@ -29,5 +110,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 순수 WebSocket 엔드포인트 (Postman 테스트용)
         registry.addEndpoint("/ws-stomp")
                 .setAllowedOriginPatterns("*");
+
+        if (virtualThreads) {
+            // 같은 세션의 수신 메시지를 순서대로 처리
+            registry.setPreserveReceiveOrder(true);
+        }
     }
-}
\ No newline at end of file
+}
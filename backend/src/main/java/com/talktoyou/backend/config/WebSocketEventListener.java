@@ -1,61 +1,62 @@
 package com.talktoyou.backend.config;
 
 import com.talktoyou.backend.dto.ChatMessage;
-import com.talktoyou.backend.entity.User;
-import com.talktoyou.backend.repository.UserRepository;
+import com.talktoyou.backend.service.DisconnectLeaveBatcher;
+import com.talktoyou.backend.service.PresenceRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WebSocketEventListener {
 
-    private final SimpMessagingTemplate messagingTemplate;
-    private final UserRepository userRepository;
+    private final DisconnectLeaveBatcher disconnectLeaveBatcher;
+    private final PresenceRegistry presenceRegistry;
 
     // WebSocket 연결 이벤트
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
-        log.info("새로운 WebSocket 연결이 수립되었습니다");
+        log.debug("새로운 WebSocket 연결이 수립되었습니다");
     }
 
-    // WebSocket 연결 해제 이벤트
+    // WebSocket 연결 해제 이벤트 (세션에 저장된 정보만 사용, DB 조회 없음)
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
 
-        String userId = (String) headerAccessor.getSessionAttributes().get("userId");
-        String roomId = (String) headerAccessor.getSessionAttributes().get("roomId");
-
-        if (userId != null && roomId != null) {
-            log.info("사용자 연결 해제: userId={}, roomId={}", userId, roomId);
-
-            // 사용자 정보 조회
-            User user = userRepository.findById(userId).orElse(null);
-
-            if (user != null) {
-                // 퇴장 메시지 생성 및 브로드캐스트
-                ChatMessage chatMessage = ChatMessage.builder()
-                        .type(ChatMessage.MessageType.LEAVE)
-                        .roomId(roomId)
-                        .userId(userId)
-                        .userName(user.getUserName())
-                        .content(user.getUserName() + "님이 퇴장했습니다.")
-                        .timestamp(LocalDateTime.now())
-                        .build();
-
-                messagingTemplate.convertAndSend("/topic/room/" + roomId, chatMessage);
-                log.info("자동 퇴장 알림 전송 완료: user={}", user.getUserName());
-            }
+        // 접속자 목록에서 세션 제거
+        presenceRegistry.removeSession(event.getSessionId());
+
+        String userId = StompSessionAttributes.getUserId(attributes);
+        if (userId == null) {
+            return;
+        }
+        String userName = StompSessionAttributes.getUserName(attributes);
+
+        for (String roomId : StompSessionAttributes.getJoinedRooms(attributes)) {
+            log.debug("사용자 연결 해제: userId={}, roomId={}", userId, roomId);
+
+            // 퇴장 메시지 생성 후 채팅방별로 모아서 브로드캐스트
+            ChatMessage chatMessage = ChatMessage.builder()
+                    .type(ChatMessage.MessageType.LEAVE)
+                    .roomId(roomId)
+                    .userId(userId)
+                    .userName(userName)
+                    .content(userName + "님이 퇴장했습니다.")
+                    .timestamp(LocalDateTime.now())
+                    .build();
+
+            disconnectLeaveBatcher.enqueue(roomId, chatMessage);
         }
     }
-}
\ No newline at end of file
+}
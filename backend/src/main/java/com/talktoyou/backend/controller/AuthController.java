@@ -8,6 +8,7 @@ import com.talktoyou.backend.dto.response.TokenValidationResponse;
 import com.talktoyou.backend.dto.response.ErrorResponse;
 import com.talktoyou.backend.service.AuthService;
 import com.talktoyou.backend.util.JwtUtil;
+import com.talktoyou.backend.util.TokenClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,7 +18,6 @@ import jakarta.validation.Valid;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -136,19 +136,18 @@ public class AuthController {
             boolean isValid = authService.validateToken(token);
 
             if (isValid) {
-                String userId = jwtUtil.getUserIdFromToken(token);
-                String userName = jwtUtil.getUserNameFromToken(token);
-                Date expirationDate = jwtUtil.getExpirationDateFromToken(token);
-                LocalDateTime expirationTime = expirationDate.toInstant()
+                // 검증된 클레임을 한 번에 조회 (캐시 사용)
+                TokenClaims claims = jwtUtil.parseToken(token);
+                LocalDateTime expirationTime = claims.getExpiration()
                         .atZone(ZoneId.systemDefault())
                         .toLocalDateTime();
-                long remainingTime = (expirationDate.getTime() - System.currentTimeMillis()) / 1000;
+                long remainingTime = claims.getRemainingSeconds();
 
                 TokenValidationResponse response = TokenValidationResponse.builder()
                         .valid(true)
                         .message("유효한 토큰입니다.")
-                        .userId(userId)
-                        .userName(userName)
+                        .userId(claims.getUserId())
+                        .userName(claims.getUserName())
                         .expirationTime(expirationTime)
                         .remainingTime(remainingTime)
                         .build();
@@ -3,11 +3,20 @@ package com.talktoyou.backend.controller;
 import com.talktoyou.backend.dto.request.CreateRoomRequest;
 import com.talktoyou.backend.dto.request.JoinRoomRequest;
 import com.talktoyou.backend.dto.response.ApiResponse;
+import com.talktoyou.backend.dto.response.PresenceResponse;
+import com.talktoyou.backend.dto.response.RoomPageResponse;
 import com.talktoyou.backend.dto.response.RoomResponse;
+import com.talktoyou.backend.dto.response.UnreadCountResponse;
 import com.talktoyou.backend.service.ChatRoomService;
+import com.talktoyou.backend.service.PresenceRegistry;
+import com.talktoyou.backend.service.RoomDirectory;
+import com.talktoyou.backend.service.UnreadCounterService;
 import com.talktoyou.backend.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
@@ -22,7 +31,12 @@ import java.util.List;
 @CrossOrigin(origins = "*") // 개발용, 나중에 수정 필요
 public class ChatRoomController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ChatRoomService chatRoomService;
+    private final PresenceRegistry presenceRegistry;
+    private final RoomDirectory roomDirectory;
+    private final UnreadCounterService unreadCounterService;
     private final JwtUtil jwtUtil;
 
     // 채팅방 생성
@@ -58,12 +72,33 @@ public class ChatRoomController {
         }
     }
 
-    // 채팅방 목록 조회
+    // 채팅방 목록 조회 (페이지 단위, 변경이 없으면 304)
     @GetMapping
-    public ResponseEntity<ApiResponse<List<RoomResponse>>> getAllRooms() {
+    public ResponseEntity<ApiResponse<RoomPageResponse>> getRooms(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.failure("잘못된 페이지 요청입니다.", "VALIDATION_ERROR"));
+        }
+
         try {
-            List<RoomResponse> rooms = chatRoomService.getAllRooms();
-            return ResponseEntity.ok(ApiResponse.success("채팅방 목록 조회 완료", rooms));
+            RoomPageResponse response = roomDirectory.getPage(page, size);
+            if (response.getVersion() == null) {
+                // 목록 적재 전: 조건부 요청 없이 응답
+                return ResponseEntity.ok(ApiResponse.success("채팅방 목록 조회 완료", response));
+            }
+
+            String etag = "\"" + response.getVersion() + "\"";
+            if (matchesEtag(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .body(ApiResponse.success("채팅방 목록 조회 완료", response));
         } catch (Exception e) {
             log.error("채팅방 목록 조회 중 오류", e);
             return ResponseEntity.internalServerError()
@@ -71,6 +106,31 @@ public class ChatRoomController {
         }
     }
 
+    // 채팅방 이름 검색 (순위순: 완전 일치, 접두 일치, 단어 시작 일치, 부분 일치)
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<RoomResponse>>> searchRooms(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        if (query.isBlank()) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.failure("검색어를 입력해주세요.", "VALIDATION_ERROR"));
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.failure("잘못된 검색 개수입니다.", "VALIDATION_ERROR"));
+        }
+
+        try {
+            List<RoomResponse> rooms = roomDirectory.search(query, limit);
+            return ResponseEntity.ok(ApiResponse.success("채팅방 검색 완료", rooms));
+        } catch (Exception e) {
+            log.error("채팅방 검색 중 오류", e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.failure("서버 내부 오류가 발생했습니다.", "INTERNAL_ERROR"));
+        }
+    }
+
     // 채팅방 참여
     @PostMapping("/{roomId}/join")
     public ResponseEntity<ApiResponse<RoomResponse>> joinRoom(
@@ -123,6 +183,95 @@ public class ChatRoomController {
         }
     }
 
+    // 채팅방 현재 접속자 조회 (이후 변경분은 /topic/room/{roomId}/presence 로 전달)
+    @GetMapping("/{roomId}/presence")
+    public ResponseEntity<ApiResponse<PresenceResponse>> getPresence(
+            @PathVariable String roomId,
+            @RequestHeader("Authorization") String authHeader) {
+
+        try {
+            // JWT 토큰에서 사용자 ID 추출
+            String token = extractToken(authHeader);
+            String userId = jwtUtil.getUserIdFromToken(token);
+
+            PresenceResponse response = presenceRegistry.getSnapshot(roomId, userId);
+            return ResponseEntity.ok(ApiResponse.success("접속자 목록 조회 완료", response));
+        } catch (RuntimeException e) {
+            log.error("접속자 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.failure(e.getMessage(), "GET_PRESENCE_ERROR"));
+        } catch (Exception e) {
+            log.error("접속자 목록 조회 중 예상치 못한 오류", e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.failure("서버 내부 오류가 발생했습니다.", "INTERNAL_ERROR"));
+        }
+    }
+
+    // 참여 중인 모든 채팅방의 안 읽은 메시지 수 조회
+    @GetMapping("/unread")
+    public ResponseEntity<ApiResponse<List<UnreadCountResponse>>> getUnreadCounts(
+            @RequestHeader("Authorization") String authHeader) {
+
+        try {
+            // JWT 토큰에서 사용자 ID 추출
+            String token = extractToken(authHeader);
+            String userId = jwtUtil.getUserIdFromToken(token);
+
+            List<UnreadCountResponse> response = unreadCounterService.getUnreadCounts(userId);
+            return ResponseEntity.ok(ApiResponse.success("안 읽은 메시지 수 조회 완료", response));
+        } catch (RuntimeException e) {
+            log.error("안 읽은 메시지 수 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.failure(e.getMessage(), "GET_UNREAD_ERROR"));
+        } catch (Exception e) {
+            log.error("안 읽은 메시지 수 조회 중 예상치 못한 오류", e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.failure("서버 내부 오류가 발생했습니다.", "INTERNAL_ERROR"));
+        }
+    }
+
+    // 채팅방 읽음 처리 (messageId까지 읽음, 없으면 안 읽은 수만 초기화)
+    @PostMapping("/{roomId}/read")
+    public ResponseEntity<ApiResponse<Void>> markRead(
+            @PathVariable String roomId,
+            @RequestParam(required = false) String messageId,
+            @RequestHeader("Authorization") String authHeader) {
+
+        try {
+            // JWT 토큰에서 사용자 ID 추출
+            String token = extractToken(authHeader);
+            String userId = jwtUtil.getUserIdFromToken(token);
+
+            unreadCounterService.markRead(roomId, userId, messageId);
+            return ResponseEntity.ok(ApiResponse.success("읽음 처리되었습니다."));
+        } catch (RuntimeException e) {
+            log.error("읽음 처리 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.failure(e.getMessage(), "MARK_READ_ERROR"));
+        } catch (Exception e) {
+            log.error("읽음 처리 중 예상치 못한 오류", e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.failure("서버 내부 오류가 발생했습니다.", "INTERNAL_ERROR"));
+        }
+    }
+
+    // If-None-Match 헤더에 현재 ETag가 포함되어 있는지 확인 (약한 비교)
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag) || value.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // JWT 토큰 추출 헬퍼 메서드
     private String extractToken(String authHeader) {
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
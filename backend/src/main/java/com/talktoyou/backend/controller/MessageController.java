@@ -2,6 +2,7 @@ package com.talktoyou.backend.controller;
 
 import com.talktoyou.backend.dto.request.SendMessageRequest;
 import com.talktoyou.backend.dto.response.ApiResponse;
+import com.talktoyou.backend.dto.response.MessagePageResponse;
 import com.talktoyou.backend.dto.response.MessageResponse;
 import com.talktoyou.backend.service.MessageService;
 import com.talktoyou.backend.util.JwtUtil;
@@ -84,6 +85,62 @@ public class MessageController {
         }
     }
 
+    // 채팅방 메시지 히스토리 페이지 조회 (커서 기반)
+    @GetMapping("/{roomId}/history")
+    public ResponseEntity<ApiResponse<MessagePageResponse>> getMessageHistory(
+            @PathVariable String roomId,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader("Authorization") String authHeader) {
+
+        try {
+            // JWT 토큰에서 사용자 ID 추출
+            String token = extractToken(authHeader);
+            String userId = jwtUtil.getUserIdFromToken(token);
+
+            MessagePageResponse page = messageService.getMessagePage(roomId, userId, before, after, size);
+            log.info("메시지 히스토리 조회 성공: roomId={}, count={}", roomId, page.getMessages().size());
+
+            return ResponseEntity.ok(ApiResponse.success("메시지 히스토리 조회 완료", page));
+        } catch (RuntimeException e) {
+            log.error("메시지 히스토리 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.failure(e.getMessage(), "GET_MESSAGE_HISTORY_ERROR"));
+        } catch (Exception e) {
+            log.error("메시지 히스토리 조회 중 예상치 못한 오류", e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.failure("서버 내부 오류가 발생했습니다.", "INTERNAL_ERROR"));
+        }
+    }
+
+    // 메시지 검색 (참여 중인 채팅방 대상, roomId를 주면 해당 채팅방만, 최신순 커서 기반)
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<MessagePageResponse>> searchMessages(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String roomId,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader("Authorization") String authHeader) {
+
+        try {
+            // JWT 토큰에서 사용자 ID 추출
+            String token = extractToken(authHeader);
+            String userId = jwtUtil.getUserIdFromToken(token);
+
+            MessagePageResponse page = messageService.searchMessages(userId, query, roomId, before, size);
+            return ResponseEntity.ok(ApiResponse.success("메시지 검색 완료", page));
+        } catch (RuntimeException e) {
+            log.error("메시지 검색 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.failure(e.getMessage(), "SEARCH_MESSAGES_ERROR"));
+        } catch (Exception e) {
+            log.error("메시지 검색 중 예상치 못한 오류", e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.failure("서버 내부 오류가 발생했습니다.", "INTERNAL_ERROR"));
+        }
+    }
+
     // JWT 토큰 추출 헬퍼 메서드
     private String extractToken(String authHeader) {
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -1,91 +1,183 @@
 package com.talktoyou.backend.controller;
 
+import com.talktoyou.backend.config.StompRateLimitInterceptor;
+import com.talktoyou.backend.config.StompSessionAttributes;
 import com.talktoyou.backend.dto.ChatMessage;
+import com.talktoyou.backend.dto.UserSummary;
+import com.talktoyou.backend.dto.request.ResumeRequest;
+import com.talktoyou.backend.dto.response.ApiResponse;
+import com.talktoyou.backend.dto.response.MessageResponse;
+import com.talktoyou.backend.dto.response.ResumeResponse;
 import com.talktoyou.backend.entity.Message;
-import com.talktoyou.backend.entity.User;
-import com.talktoyou.backend.repository.MessageRepository;
-import com.talktoyou.backend.repository.RoomMemberRepository;
-import com.talktoyou.backend.repository.UserRepository;
+import com.talktoyou.backend.service.MessageService;
+import com.talktoyou.backend.service.MessageWriteBehindService;
+import com.talktoyou.backend.service.PresenceRegistry;
+import com.talktoyou.backend.service.RoomBroadcaster;
+import com.talktoyou.backend.service.RoomMembershipCache;
+import com.talktoyou.backend.service.RoomMessageCache;
+import com.talktoyou.backend.service.RoomSequencer;
+import com.talktoyou.backend.service.TypingIndicatorService;
+import com.talktoyou.backend.service.UserSummaryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Slf4j
 @Controller
 @RequiredArgsConstructor
 public class WebSocketController {
 
+    private final RoomBroadcaster roomBroadcaster;
+    private final MessageWriteBehindService messageWriteBehindService;
+    private final RoomMessageCache roomMessageCache;
+    private final RoomMembershipCache roomMembershipCache;
+    private final UserSummaryService userSummaryService;
+    private final PresenceRegistry presenceRegistry;
+    private final TypingIndicatorService typingIndicatorService;
+    private final RoomSequencer roomSequencer;
+    private final MessageService messageService;
     private final SimpMessagingTemplate messagingTemplate;
-    private final MessageRepository messageRepository;
-    private final UserRepository userRepository;
-    private final RoomMemberRepository roomMemberRepository;
 
     // 채팅 메시지 전송
     @MessageMapping("/chat/{roomId}")
     public void sendMessage(@DestinationVariable String roomId,
-                            @Payload ChatMessage chatMessage) {
+                            @Payload ChatMessage chatMessage,
+                            SimpMessageHeaderAccessor headerAccessor) {
         try {
-            log.info("메시지 수신: roomId={}, user={}, type={}",
+            // 작성자는 CONNECT에서 인증된 세션 사용자로 지정 (payload의 사용자 정보는 무시)
+            if (!applySessionUser(chatMessage, headerAccessor)) {
+                log.warn("인증되지 않은 세션의 메시지: roomId={}", roomId);
+                return;
+            }
+            log.debug("메시지 수신: roomId={}, user={}, type={}",
                     roomId, chatMessage.getUserName(), chatMessage.getType());
 
             // 채팅방 참여 여부 확인
-            if (!roomMemberRepository.existsByUserIdAndRoomId(chatMessage.getUserId(), roomId)) {
+            if (!roomMembershipCache.isMember(chatMessage.getUserId(), roomId)) {
                 log.warn("채팅방에 참여하지 않은 사용자의 메시지: userId={}", chatMessage.getUserId());
                 return;
             }
 
-            // 일반 채팅 메시지인 경우 DB에 저장
+            LocalDateTime now = LocalDateTime.now();
+
+            // 일반 채팅 메시지인 경우 저장할 엔티티를 미리 만들고 ID와 채팅방 순번 발급
+            Message message = null;
             if (chatMessage.getType() == ChatMessage.MessageType.CHAT) {
-                Message message = Message.builder()
+                message = Message.builder()
+                        .messageId(new ObjectId().toHexString())
                         .userId(chatMessage.getUserId())
                         .roomId(roomId)
+                        .seq(roomSequencer.next(roomId))
                         .content(chatMessage.getContent())
-                        .createdAt(LocalDateTime.now())
+                        .createdAt(now)
                         .build();
-
-                messageRepository.save(message);
-                log.info("메시지 DB 저장 완료: messageId={}", message.getMessageId());
+                chatMessage.setMessageId(message.getMessageId());
+                chatMessage.setSeq(message.getSeq());
             }
 
+            chatMessage.setRoomId(roomId);
+
             // 타임스탬프 설정
-            chatMessage.setTimestamp(LocalDateTime.now());
+            chatMessage.setTimestamp(now);
 
-            // 해당 채팅방 구독자들에게 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/room/" + roomId, chatMessage);
+            // 해당 채팅방 구독자들에게 먼저 브로드캐스트
+            roomBroadcaster.broadcast(roomId, chatMessage);
 
-            log.info("메시지 브로드캐스트 완료: roomId={}", roomId);
+            log.debug("메시지 브로드캐스트 완료: roomId={}", roomId);
+
+            if (message != null) {
+                // 메시지를 보냈으므로 입력 중 표시 해제
+                typingIndicatorService.stopTyping(roomId, chatMessage.getUserId());
+
+                // write-behind 버퍼에 넣어 일괄 저장
+                messageWriteBehindService.enqueue(message);
+
+                // 최근 메시지 캐시에 반영
+                roomMessageCache.append(MessageResponse.from(chatMessage));
+                log.debug("메시지 저장 대기열 추가: messageId={}", message.getMessageId());
+            }
 
         } catch (Exception e) {
             log.error("메시지 처리 중 오류 발생", e);
         }
     }
 
+    // 재연결 후 놓친 메시지 재전송 (요청한 세션에만 /user/queue/resume으로 응답, 실패 시 /user/queue/errors)
+    @MessageMapping("/chat/{roomId}/resume")
+    @SendToUser(destinations = "/queue/resume", broadcast = false)
+    public ResumeResponse resume(@DestinationVariable String roomId,
+                                 @Payload ResumeRequest request,
+                                 SimpMessageHeaderAccessor headerAccessor) {
+        try {
+            // CONNECT에서 인증된 사용자 기준으로 참여 여부 확인
+            String userId = StompSessionAttributes.getUserId(headerAccessor.getSessionAttributes());
+            if (userId == null) {
+                log.warn("인증되지 않은 세션의 재전송 요청: roomId={}", roomId);
+                sendError(headerAccessor, ApiResponse.failure("인증되지 않은 세션입니다.", "RESUME_ERROR"));
+                return null;
+            }
+
+            long lastSeq = request.getLastSeq() == null ? 0 : request.getLastSeq();
+            return messageService.resume(roomId, userId, lastSeq);
+
+        } catch (RuntimeException e) {
+            log.warn("메시지 재전송 실패: roomId={}, reason={}", roomId, e.getMessage());
+            sendError(headerAccessor, ApiResponse.failure(e.getMessage(), "RESUME_ERROR"));
+            return null;
+        } catch (Exception e) {
+            log.error("메시지 재전송 처리 중 오류 발생", e);
+            sendError(headerAccessor, ApiResponse.failure("서버 내부 오류가 발생했습니다.", "INTERNAL_ERROR"));
+            return null;
+        }
+    }
+
     // 사용자 입장 알림
     @MessageMapping("/chat/{roomId}/join")
     public void userJoin(@DestinationVariable String roomId,
                          @Payload ChatMessage chatMessage,
                          SimpMessageHeaderAccessor headerAccessor) {
         try {
-            log.info("사용자 입장: roomId={}, user={}", roomId, chatMessage.getUserName());
+            // CONNECT에서 인증된 사용자 정보 사용
+            if (!applySessionUser(chatMessage, headerAccessor)) {
+                log.warn("인증되지 않은 세션의 입장 요청: roomId={}", roomId);
+                return;
+            }
 
-            // 세션에 사용자 정보 저장
-            headerAccessor.getSessionAttributes().put("userId", chatMessage.getUserId());
-            headerAccessor.getSessionAttributes().put("roomId", roomId);
+            // 채팅방 참여 여부 확인 (참여하지 않은 채팅방에는 접속 표시/입장 알림을 하지 않음)
+            if (!roomMembershipCache.isMember(chatMessage.getUserId(), roomId)) {
+                log.warn("채팅방에 참여하지 않은 사용자의 입장 요청: userId={}, roomId={}", chatMessage.getUserId(), roomId);
+                return;
+            }
+            log.debug("사용자 입장: roomId={}, user={}", roomId, chatMessage.getUserName());
+
+            StompSessionAttributes.joinedRooms(headerAccessor.getSessionAttributes()).add(roomId);
+
+            // 접속자 목록에 추가
+            UserSummary user = userSummaryService.get(chatMessage.getUserId())
+                    .orElseGet(() -> UserSummary.builder()
+                            .userId(chatMessage.getUserId())
+                            .userName(chatMessage.getUserName())
+                            .build());
+            presenceRegistry.join(roomId, headerAccessor.getSessionId(), user);
 
             chatMessage.setType(ChatMessage.MessageType.JOIN);
             chatMessage.setTimestamp(LocalDateTime.now());
 
             // 입장 메시지 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/room/" + roomId, chatMessage);
+            roomBroadcaster.broadcast(roomId, chatMessage);
 
-            log.info("입장 알림 완료: roomId={}, user={}", roomId, chatMessage.getUserName());
+            log.debug("입장 알림 완료: roomId={}, user={}", roomId, chatMessage.getUserName());
 
         } catch (Exception e) {
             log.error("사용자 입장 처리 중 오류 발생", e);
@@ -95,20 +187,77 @@ public class WebSocketController {
     // 사용자 퇴장 알림
     @MessageMapping("/chat/{roomId}/leave")
     public void userLeave(@DestinationVariable String roomId,
-                          @Payload ChatMessage chatMessage) {
+                          @Payload ChatMessage chatMessage,
+                          SimpMessageHeaderAccessor headerAccessor) {
         try {
-            log.info("사용자 퇴장: roomId={}, user={}", roomId, chatMessage.getUserName());
+            if (!applySessionUser(chatMessage, headerAccessor)) {
+                return;
+            }
+            log.debug("사용자 퇴장: roomId={}, user={}", roomId, chatMessage.getUserName());
+
+            // 접속자 목록과 세션의 입장 채팅방에서 제거
+            // (REST로 먼저 나간 경우 멤버십은 이미 없으므로, 이 세션이 입장했던 채팅방인지로 퇴장 알림 여부 판단)
+            presenceRegistry.leave(roomId, headerAccessor.getSessionId());
+            if (!StompSessionAttributes.joinedRooms(headerAccessor.getSessionAttributes()).remove(roomId)) {
+                log.debug("입장하지 않은 채팅방의 퇴장 요청: roomId={}, user={}", roomId, chatMessage.getUserName());
+                return;
+            }
 
             chatMessage.setType(ChatMessage.MessageType.LEAVE);
             chatMessage.setTimestamp(LocalDateTime.now());
 
             // 퇴장 메시지 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/room/" + roomId, chatMessage);
+            roomBroadcaster.broadcast(roomId, chatMessage);
 
-            log.info("퇴장 알림 완료: roomId={}, user={}", roomId, chatMessage.getUserName());
+            log.debug("퇴장 알림 완료: roomId={}, user={}", roomId, chatMessage.getUserName());
 
         } catch (Exception e) {
             log.error("사용자 퇴장 처리 중 오류 발생", e);
         }
     }
-}
\ No newline at end of file
+
+    // 입력 중 알림 (키 입력마다 보내도 debounce 후 채팅방별로 모아서 전달)
+    @MessageMapping("/chat/{roomId}/typing")
+    public void userTyping(@DestinationVariable String roomId,
+                           @Payload ChatMessage chatMessage,
+                           SimpMessageHeaderAccessor headerAccessor) {
+        try {
+            if (!applySessionUser(chatMessage, headerAccessor)
+                    || !roomMembershipCache.isMember(chatMessage.getUserId(), roomId)) {
+                return;
+            }
+
+            UserSummary user = userSummaryService.get(chatMessage.getUserId())
+                    .orElseGet(() -> UserSummary.builder()
+                            .userId(chatMessage.getUserId())
+                            .userName(chatMessage.getUserName())
+                            .build());
+            typingIndicatorService.typing(roomId, user);
+
+        } catch (Exception e) {
+            log.error("입력 중 알림 처리 중 오류 발생", e);
+        }
+    }
+
+    // 요청한 세션에만 오류 전달 (사용자 이름 대신 세션 ID 지정)
+    private void sendError(SimpMessageHeaderAccessor headerAccessor, ApiResponse<?> error) {
+        String sessionId = headerAccessor.getSessionId();
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(sessionId, StompRateLimitInterceptor.ERROR_DESTINATION, error,
+                headers.getMessageHeaders());
+    }
+
+    // payload의 사용자 정보를 세션의 인증된 사용자 정보로 덮어씀 (세션 사용자가 없으면 false)
+    private boolean applySessionUser(ChatMessage chatMessage, SimpMessageHeaderAccessor headerAccessor) {
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+        String userId = StompSessionAttributes.getUserId(attributes);
+        if (userId == null) {
+            return false;
+        }
+        chatMessage.setUserId(userId);
+        chatMessage.setUserName(StompSessionAttributes.getUserName(attributes));
+        return true;
+    }
+}
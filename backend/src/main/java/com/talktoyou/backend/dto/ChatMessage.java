@@ -13,16 +13,22 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class ChatMessage {
 
+    // CBOR 인코딩은 ordinal로 전송하므로 새 종류는 항상 끝에 추가
     public enum MessageType {
         CHAT,       // 일반 채팅 메시지
         JOIN,       // 사용자 입장
-        LEAVE       // 사용자 퇴장
+        LEAVE,      // 사용자 퇴장
+        TYPING      // 입력 중 (저장하지 않음, 채팅방별로 모아서 전달)
     }
 
     private MessageType type;
 
+    private String messageId;   // CHAT 메시지의 저장 ID (서버에서 발급)
+
     private String roomId;
 
+    private Long seq;           // CHAT 메시지의 채팅방 내 순번 (서버에서 발급)
+
     private String userId;
 
     private String userName;
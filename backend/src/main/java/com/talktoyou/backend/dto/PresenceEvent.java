@@ -0,0 +1,27 @@
+package com.talktoyou.backend.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+// 채팅방 접속 상태 변경 알림 (/topic/room/{roomId}/presence)
+@Value
+@Builder
+public class PresenceEvent {
+
+    public enum Status {
+        ONLINE,   // 채팅방의 첫 세션 접속
+        OFFLINE   // 채팅방의 마지막 세션 종료
+    }
+
+    String roomId;
+
+    String userId;
+
+    String userName;
+
+    Status status;
+
+    long version; // 채팅방별로 1씩 증가 (건너뛴 값이 있으면 스냅샷을 다시 조회)
+
+    int onlineCount;
+}
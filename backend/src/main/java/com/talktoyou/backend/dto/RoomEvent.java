@@ -0,0 +1,30 @@
+package com.talktoyou.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+// 채팅방 구독자에게 전달할 이벤트 (노드 간 전파 단위)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomEvent {
+
+    private String roomId;
+
+    private String destination;   // 예: /topic/room/{roomId}
+
+    private String eventType;     // CHAT, JOIN, LEAVE 등
+
+    private String originNodeId;  // 이벤트를 발행한 노드
+
+    private String payload;       // JSON으로 직렬화된 메시지 본문
+
+    @JsonIgnore
+    private Object source;        // 직렬화 전 원본 객체 (현재 노드에서 발행한 이벤트만, CBOR 인코딩용)
+
+    private Long publishedAt;     // 발행 시각 (epoch 마이크로초, 브로드캐스트 지연 측정용)
+}
@@ -0,0 +1,16 @@
+package com.talktoyou.backend.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+// 채팅방의 "입력 중" 사용자 목록 (/topic/room/{roomId}/typing, 주기마다 변경된 채팅방만 전송)
+@Value
+@Builder
+public class TypingEvent {
+
+    String roomId;
+
+    List<UserSummary> users; // 비어 있으면 입력 중인 사용자 없음
+}
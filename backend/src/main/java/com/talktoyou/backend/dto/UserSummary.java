@@ -0,0 +1,25 @@
+package com.talktoyou.backend.dto;
+
+import com.talktoyou.backend.entity.User;
+import lombok.Builder;
+import lombok.Value;
+
+// 응답 변환에 필요한 최소한의 사용자 정보 (캐시 보관용, 불변)
+@Value
+@Builder
+public class UserSummary {
+
+    String userId;
+
+    String userName;
+
+    String nickName;
+
+    public static UserSummary from(User user) {
+        return UserSummary.builder()
+                .userId(user.getUserId())
+                .userName(user.getUserName())
+                .nickName(user.getNickName())
+                .build();
+    }
+}
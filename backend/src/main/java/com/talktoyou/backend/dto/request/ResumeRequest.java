@@ -0,0 +1,13 @@
+package com.talktoyou.backend.dto.request;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeRequest {
+
+    private Long lastSeq; // 클라이언트가 마지막으로 받은 순번 (없으면 0)
+}
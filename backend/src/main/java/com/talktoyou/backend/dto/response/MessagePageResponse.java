@@ -0,0 +1,21 @@
+package com.talktoyou.backend.dto.response;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessagePageResponse {
+
+    private List<MessageResponse> messages; // 오래된 것부터 정렬
+
+    private String nextCursor; // 다음 페이지 요청에 사용할 커서 (없으면 null)
+
+    private boolean hasMore;
+}
@@ -4,6 +4,7 @@ import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import com.talktoyou.backend.dto.ChatMessage;
 
 import java.time.LocalDateTime;
 
@@ -17,6 +18,8 @@ public class MessageResponse {
 
     private String roomId;
 
+    private Long seq;
+
     private String userId;
 
     private String userName;
@@ -24,4 +27,17 @@ public class MessageResponse {
     private String content;
 
     private LocalDateTime createdAt;
+
+    // WebSocket으로 전송된 채팅 메시지를 응답 형태로 변환
+    public static MessageResponse from(ChatMessage chatMessage) {
+        return MessageResponse.builder()
+                .messageId(chatMessage.getMessageId())
+                .roomId(chatMessage.getRoomId())
+                .seq(chatMessage.getSeq())
+                .userId(chatMessage.getUserId())
+                .userName(chatMessage.getUserName())
+                .content(chatMessage.getContent())
+                .createdAt(chatMessage.getTimestamp())
+                .build();
+    }
 }
\ No newline at end of file
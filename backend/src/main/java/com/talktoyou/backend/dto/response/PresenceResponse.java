@@ -0,0 +1,21 @@
+package com.talktoyou.backend.dto.response;
+
+import com.talktoyou.backend.dto.UserSummary;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+// 채팅방 접속자 스냅샷 (변경 시에만 새로 만들어 공유하는 불변 객체)
+@Value
+@Builder
+public class PresenceResponse {
+
+    String roomId;
+
+    long version; // 이후 도착하는 PresenceEvent의 version과 비교하여 누락 여부 판단
+
+    int onlineCount;
+
+    List<UserSummary> users;
+}
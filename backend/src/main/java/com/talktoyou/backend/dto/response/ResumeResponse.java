@@ -0,0 +1,23 @@
+package com.talktoyou.backend.dto.response;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeResponse {
+
+    private String roomId;
+
+    private long lastSeq; // 요청한 순번
+
+    private List<MessageResponse> messages; // lastSeq 이후 메시지 (순번순)
+
+    private boolean truncated; // 놓친 메시지가 너무 많아 일부만 포함 (전체 다시 조회 필요)
+}
@@ -0,0 +1,27 @@
+package com.talktoyou.backend.dto.response;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomPageResponse {
+
+    private List<RoomResponse> rooms; // 최신 생성 순
+
+    private int page;
+
+    private int size;
+
+    private int totalCount;
+
+    private boolean hasNext;
+
+    private String version; // ETag와 같은 값 (변경 여부 확인용)
+}
@@ -1,5 +1,7 @@
 package com.talktoyou.backend.dto.response;
 
+import com.talktoyou.backend.dto.UserSummary;
+import com.talktoyou.backend.entity.ChatRoom;
 import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
@@ -28,4 +30,18 @@ public class RoomResponse {
     private LocalDateTime createdAt;
 
     private boolean isFull;
-}
\ No newline at end of file
+
+    // Entity를 Response로 변환
+    public static RoomResponse from(ChatRoom room, UserSummary creator) {
+        return RoomResponse.builder()
+                .roomId(room.getRoomId())
+                .roomName(room.getRoomName())
+                .maxRoomMember(room.getMaxRoomMember())
+                .currentRoomMember(room.getCurrentRoomMember())
+                .creatorId(room.getUserId())
+                .creatorName(creator != null ? creator.getUserName() : "Unknown")
+                .createdAt(room.getCreatedAt())
+                .isFull(room.isFull())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.talktoyou.backend.dto.response;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadCountResponse {
+
+    private String roomId;
+
+    private long unreadCount;
+
+    private String lastReadMessageId;
+
+    private LocalDateTime lastReadAt;
+}
@@ -3,6 +3,7 @@ package com.talktoyou.backend.entity;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
@@ -15,6 +16,9 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@CompoundIndex(name = "room_created_id", def = "{'room_id': 1, 'created_at': 1, '_id': 1}") // 커서 페이지네이션용 인덱스
+@CompoundIndex(name = "room_seq", def = "{'room_id': 1, 'seq': 1}") // 순번 기반 재전송용 인덱스
+@CompoundIndex(name = "room_message", def = "{'room_id': 1, '_id': 1}") // 읽음 커서 이후 안 읽은 수 계산용 인덱스
 public class Message {
 
     @Id
@@ -26,6 +30,9 @@ public class Message {
     @Field("room_id")
     private String roomId;
 
+    @Field("seq")
+    private Long seq; // 채팅방 내 순번 (1부터 단조 증가, 도입 이전 메시지는 없음)
+
     @Field("content")
     private String content;
 
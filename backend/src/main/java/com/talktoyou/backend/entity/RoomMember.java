@@ -17,6 +17,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @CompoundIndex(def = "{'user_id': 1, 'room_id': 1}", unique = true) // 복합 유니크 인덱스
+@CompoundIndex(name = "room_user", def = "{'room_id': 1, 'user_id': 1}") // 채팅방 단위 안 읽은 수 갱신용 인덱스
 public class RoomMember {
 
     @Id
@@ -31,6 +32,15 @@ public class RoomMember {
     @Field("joined_at")
     private LocalDateTime joinedAt;
 
+    @Field("last_read_message_id")
+    private String lastReadMessageId; // 마지막으로 읽은 메시지 (ObjectId 순서로 비교)
+
+    @Field("last_read_at")
+    private LocalDateTime lastReadAt;
+
+    @Field("unread_count")
+    private long unreadCount; // 메시지 저장 시 증가, 읽음 처리 시 커서 이후 메시지 수로 다시 계산
+
     // 참여 시점 설정
     public void setJoinedAt() {
         this.joinedAt = LocalDateTime.now();
@@ -1,17 +1,27 @@
 package com.talktoyou.backend.repository;
 
 import com.talktoyou.backend.entity.ChatRoom;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ChatRoomRepository extends MongoRepository<ChatRoom, String> {
 
-    // 삭제되지 않은 채팅방만 조회
-    List<ChatRoom> findByDeletedAtIsNullOrderByCreatedAtDesc();
+    // 삭제되지 않은 채팅방 한 페이지 조회
+    Slice<ChatRoom> findByDeletedAtIsNullOrderByCreatedAtDesc(Pageable pageable);
+
+    // 삭제되지 않은 채팅방 전체를 커서로 순회 (사용 후 close 필요)
+    Stream<ChatRoom> streamByDeletedAtIsNull();
+
+    long countByDeletedAtIsNull();
 
     // 특정 채팅방 조회 (삭제되지 않은 것만)
     Optional<ChatRoom> findByRoomIdAndDeletedAtIsNull(String roomId);
@@ -19,6 +29,16 @@ public interface ChatRoomRepository extends MongoRepository<ChatRoom, String> {
     // 특정 사용자가 생성한 채팅방들 조회
     List<ChatRoom> findByUserIdAndDeletedAtIsNullOrderByCreatedAtDesc(String userId);
 
-    // 채팅방 이름으로 검색 (삭제되지 않은 것만)
-    List<ChatRoom> findByRoomNameContainingAndDeletedAtIsNullOrderByCreatedAtDesc(String roomName);
+    // 채팅방 이름으로 검색 (삭제되지 않은 것만, 정규식 전체 스캔이므로 RoomDirectory 적재 전에만 사용)
+    Slice<ChatRoom> findByRoomNameContainingAndDeletedAtIsNullOrderByCreatedAtDesc(String roomName, Pageable pageable);
+
+    // 정원 미만일 때만 현재 인원 1 증가 (원자적 조건부 업데이트, 변경된 문서 수 반환)
+    @Query("{ '_id': ?0, 'deleted_at': null, '$expr': { '$lt': ['$current_room_member', '$max_room_member'] } }")
+    @Update("{ '$inc': { 'current_room_member': 1 } }")
+    long incrementMemberCountIfNotFull(String roomId);
+
+    // 1명 이상일 때만 현재 인원 1 감소 (원자적 조건부 업데이트, 변경된 문서 수 반환)
+    @Query("{ '_id': ?0, 'current_room_member': { '$gt': 0 } }")
+    @Update("{ '$inc': { 'current_room_member': -1 } }")
+    long decrementMemberCount(String roomId);
 }
\ No newline at end of file
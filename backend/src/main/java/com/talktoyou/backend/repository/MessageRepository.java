@@ -1,10 +1,15 @@
 package com.talktoyou.backend.repository;
 
 import com.talktoyou.backend.entity.Message;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MessageRepository extends MongoRepository<Message, String> {
@@ -15,6 +20,31 @@ public interface MessageRepository extends MongoRepository<Message, String> {
     // 특정 채팅방의 최근 메시지 조회 (제한된 개수)
     List<Message> findTop50ByRoomIdOrderByCreatedAtDesc(String roomId);
 
+    // 특정 채팅방의 메시지 페이지 조회 (정렬/개수는 Pageable로 지정)
+    List<Message> findByRoomId(String roomId, Pageable pageable);
+
+    // 커서보다 이전(오래된) 메시지 페이지 조회 - (room_id, created_at, _id) 인덱스 사용
+    @Query("{ 'room_id': ?0, '$or': [ { 'created_at': { '$lt': ?1 } }, { 'created_at': ?1, '_id': { '$lt': ?2 } } ] }")
+    List<Message> findPageBefore(String roomId, LocalDateTime createdAt, ObjectId messageId, Pageable pageable);
+
+    // 커서보다 이후(최신) 메시지 페이지 조회 - (room_id, created_at, _id) 인덱스 사용
+    @Query("{ 'room_id': ?0, '$or': [ { 'created_at': { '$gt': ?1 } }, { 'created_at': ?1, '_id': { '$gt': ?2 } } ] }")
+    List<Message> findPageAfter(String roomId, LocalDateTime createdAt, ObjectId messageId, Pageable pageable);
+
+    // 지정한 ID 이후 메시지 조회 (검색 색인 따라잡기용, _id 인덱스 사용)
+    @Query("{ '_id': { '$gt': ?0 } }")
+    List<Message> findAfterId(ObjectId messageId, Pageable pageable);
+
+    // 두 ID 사이의 메시지 조회 (검색 색인 따라잡기용, _id 인덱스 사용)
+    @Query("{ '_id': { '$gt': ?0, '$lt': ?1 } }")
+    List<Message> findBetweenIds(ObjectId from, ObjectId to, Pageable pageable);
+
+    // 채팅방의 마지막 순번 메시지 조회 (순번 카운터 초기화용)
+    Optional<Message> findTopByRoomIdOrderBySeqDesc(String roomId);
+
+    // 지정한 순번 이후 메시지 조회 (재연결 시 재전송용, (room_id, seq) 인덱스 사용)
+    List<Message> findByRoomIdAndSeqGreaterThanOrderBySeqAsc(String roomId, long seq, Pageable pageable);
+
     // 특정 사용자가 보낸 메시지 목록 조회
     List<Message> findByUserIdOrderByCreatedAtDesc(String userId);
 
@@ -2,8 +2,11 @@ package com.talktoyou.backend.repository;
 
 import com.talktoyou.backend.entity.RoomMember;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,8 +25,18 @@ public interface RoomMemberRepository extends MongoRepository<RoomMember, String
     // 특정 채팅방 멤버 수 카운트
     long countByRoomId(String roomId);
 
-    // 특정 사용자-채팅방 관계 삭제
-    void deleteByUserIdAndRoomId(String userId, String roomId);
+    // 특정 사용자-채팅방 관계 삭제 (삭제된 문서 수 반환)
+    long deleteByUserIdAndRoomId(String userId, String roomId);
+
+    // 읽음 처리: 커서를 앞으로만 이동 (변경된 문서 수 반환, 안 읽은 수는 커서 기준으로 따로 다시 계산)
+    @Query("{ 'user_id': ?0, 'room_id': ?1, '$or': [ { 'last_read_message_id': null }, { 'last_read_message_id': { '$lt': ?2 } } ] }")
+    @Update("{ '$set': { 'last_read_message_id': ?2, 'last_read_at': ?3 } }")
+    long markReadUpTo(String userId, String roomId, String messageId, LocalDateTime readAt);
+
+    // 읽음 처리: 커서 없이 안 읽은 수만 초기화 (변경된 문서 수 반환)
+    @Query("{ 'user_id': ?0, 'room_id': ?1 }")
+    @Update("{ '$set': { 'last_read_at': ?2, 'unread_count': 0 } }")
+    long markRead(String userId, String roomId, LocalDateTime readAt);
 
     // 특정 사용자가 특정 채팅방에 있는지 확인
     boolean existsByUserIdAndRoomId(String userId, String roomId);
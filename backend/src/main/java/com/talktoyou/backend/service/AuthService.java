@@ -6,6 +6,7 @@ import com.talktoyou.backend.dto.response.AuthResponse;
 import com.talktoyou.backend.entity.User;
 import com.talktoyou.backend.repository.UserRepository;
 import com.talktoyou.backend.util.JwtUtil;
+import com.talktoyou.backend.util.TokenClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -106,14 +107,13 @@ public class AuthService {
                 throw new RuntimeException("유효하지 않은 토큰입니다.");
             }
 
-            // 토큰 만료 시간 가져오기
-            var expirationDate = jwtUtil.getExpirationDateFromToken(token);
+            // 검증된 클레임 (만료 시간, 사용자명)
+            TokenClaims claims = jwtUtil.parseToken(token);
 
             // 블랙리스트에 추가
-            tokenBlacklistService.addToBlacklist(token, expirationDate);
+            tokenBlacklistService.addToBlacklist(token, claims.getExpirationDate());
 
-            String userName = jwtUtil.getUserNameFromToken(token);
-            log.info("사용자 로그아웃: {}", userName);
+            log.info("사용자 로그아웃: {}", claims.getUserName());
 
         } catch (Exception e) {
             log.error("로그아웃 처리 중 오류 발생", e);
@@ -1,21 +1,19 @@
 package com.talktoyou.backend.service;
 
+import com.talktoyou.backend.dto.UserSummary;
 import com.talktoyou.backend.dto.request.CreateRoomRequest;
 import com.talktoyou.backend.dto.response.RoomResponse;
 import com.talktoyou.backend.entity.ChatRoom;
 import com.talktoyou.backend.entity.RoomMember;
-import com.talktoyou.backend.entity.User;
 import com.talktoyou.backend.repository.ChatRoomRepository;
 import com.talktoyou.backend.repository.RoomMemberRepository;
-import com.talktoyou.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,12 +23,14 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final RoomMemberRepository roomMemberRepository;
-    private final UserRepository userRepository;
+    private final UserSummaryService userSummaryService;
+    private final RoomMembershipCache roomMembershipCache;
+    private final RoomDirectory roomDirectory;
 
     // 채팅방 생성
     public RoomResponse createRoom(CreateRoomRequest request, String userId) {
         // 사용자 존재 확인
-        User creator = userRepository.findById(userId)
+        UserSummary creator = userSummaryService.get(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         // 채팅방 생성
@@ -52,22 +52,12 @@ public class ChatRoomService {
                 .build();
 
         roomMemberRepository.save(roomMember);
+        roomMembershipCache.onJoin(savedRoom.getRoomId(), userId);
+        roomDirectory.update(savedRoom, creator);
 
         log.info("채팅방 생성 완료: {} by {}", savedRoom.getRoomName(), creator.getUserName());
 
-        return convertToRoomResponse(savedRoom, creator);
-    }
-
-    // 모든 채팅방 목록 조회
-    public List<RoomResponse> getAllRooms() {
-        List<ChatRoom> rooms = chatRoomRepository.findByDeletedAtIsNullOrderByCreatedAtDesc();
-
-        return rooms.stream()
-                .map(room -> {
-                    User creator = userRepository.findById(room.getUserId()).orElse(null);
-                    return convertToRoomResponse(room, creator);
-                })
-                .collect(Collectors.toList());
+        return RoomResponse.from(savedRoom, creator);
     }
 
     // 채팅방 참여
@@ -77,7 +67,7 @@ public class ChatRoomService {
                 .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
 
         // 사용자 존재 확인
-        User user = userRepository.findById(userId)
+        UserSummary user = userSummaryService.get(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         // 이미 참여했는지 확인
@@ -85,28 +75,34 @@ public class ChatRoomService {
             throw new RuntimeException("이미 참여한 채팅방입니다.");
         }
 
-        // 채팅방이 가득 찬지 확인
-        if (room.isFull()) {
-            throw new RuntimeException("채팅방이 가득 찼습니다.");
-        }
-
-        // 멤버 추가
+        // 멤버 추가 (user_id+room_id 유니크 인덱스로 동시 중복 참여 차단)
         RoomMember roomMember = RoomMember.builder()
                 .userId(userId)
                 .roomId(roomId)
                 .joinedAt(LocalDateTime.now())
                 .build();
 
-        roomMemberRepository.save(roomMember);
+        try {
+            roomMemberRepository.insert(roomMember);
+        } catch (DuplicateKeyException e) {
+            throw new RuntimeException("이미 참여한 채팅방입니다.");
+        }
 
-        // 현재 멤버 수 증가
-        room.increaseMemberCount();
-        chatRoomRepository.save(room);
+        // 정원 미만일 때만 현재 멤버 수 증가 (조건부 $inc 한 번으로 처리)
+        if (chatRoomRepository.incrementMemberCountIfNotFull(roomId) == 0) {
+            // 가득 찼거나 그 사이 삭제된 채팅방: 추가한 멤버를 되돌림
+            roomMemberRepository.deleteById(roomMember.getMemberId());
+            throw new RuntimeException("채팅방이 가득 찼습니다.");
+        }
+        roomMembershipCache.onJoin(roomId, userId);
 
-        User creator = userRepository.findById(room.getUserId()).orElse(null);
+        // 갱신된 멤버 수로 응답
+        room = chatRoomRepository.findById(roomId).orElse(room);
+        UserSummary creator = userSummaryService.get(room.getUserId()).orElse(null);
+        roomDirectory.update(room, creator);
         log.info("채팅방 참여: {} joined {}", user.getUserName(), room.getRoomName());
 
-        return convertToRoomResponse(room, creator);
+        return RoomResponse.from(room, creator);
     }
 
     // 채팅방 나가기
@@ -115,34 +111,19 @@ public class ChatRoomService {
         ChatRoom room = chatRoomRepository.findByRoomIdAndDeletedAtIsNull(roomId)
                 .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
 
-        // 참여 여부 확인
-        if (!roomMemberRepository.existsByUserIdAndRoomId(userId, roomId)) {
+        // 멤버 삭제 (삭제된 건이 없으면 참여하지 않은 채팅방)
+        if (roomMemberRepository.deleteByUserIdAndRoomId(userId, roomId) == 0) {
             throw new RuntimeException("참여하지 않은 채팅방입니다.");
         }
+        roomMembershipCache.onLeave(roomId, userId);
 
-        // 멤버 삭제
-        roomMemberRepository.deleteByUserIdAndRoomId(userId, roomId);
-
-        // 현재 멤버 수 감소
-        room.decreaseMemberCount();
-        chatRoomRepository.save(room);
+        // 현재 멤버 수 감소 (0 미만으로 내려가지 않도록 조건부 $inc)
+        chatRoomRepository.decrementMemberCount(roomId);
+        chatRoomRepository.findById(roomId).ifPresent(updated ->
+                roomDirectory.update(updated, userSummaryService.get(updated.getUserId()).orElse(null)));
 
-        User user = userRepository.findById(userId).orElse(null);
+        UserSummary user = userSummaryService.get(userId).orElse(null);
         log.info("채팅방 나가기: {} left {}",
                 user != null ? user.getUserName() : userId, room.getRoomName());
     }
-
-    // Entity를 Response로 변환
-    private RoomResponse convertToRoomResponse(ChatRoom room, User creator) {
-        return RoomResponse.builder()
-                .roomId(room.getRoomId())
-                .roomName(room.getRoomName())
-                .maxRoomMember(room.getMaxRoomMember())
-                .currentRoomMember(room.getCurrentRoomMember())
-                .creatorId(room.getUserId())
-                .creatorName(creator != null ? creator.getUserName() : "Unknown")
-                .createdAt(room.getCreatedAt())
-                .isFull(room.isFull())
-                .build();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.dto.ChatMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 연결 종료로 인한 퇴장 알림을 채팅방별로 짧은 시간 모아서 발행
+// 노드 재시작 등으로 한꺼번에 끊기면 채팅방마다 LEAVE 배열(BATCH) 하나만 발행된다
+@Slf4j
+@Service
+public class DisconnectLeaveBatcher {
+
+    private final RoomBroadcaster roomBroadcaster;
+    private final long windowMillis;
+
+    // roomId -> 발행 대기 중인 퇴장 메시지
+    private final Map<String, List<ChatMessage>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public DisconnectLeaveBatcher(
+            RoomBroadcaster roomBroadcaster,
+            @Value("${app.websocket.disconnect-leave-window:100}") long windowMillis) {
+
+        this.roomBroadcaster = roomBroadcaster;
+        this.windowMillis = windowMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "disconnect-leave-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void enqueue(String roomId, ChatMessage leaveMessage) {
+        pending.compute(roomId, (key, messages) -> {
+            if (messages == null) {
+                messages = new ArrayList<>();
+                scheduler.schedule(() -> flush(roomId), windowMillis, TimeUnit.MILLISECONDS);
+            }
+            messages.add(leaveMessage);
+            return messages;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        pending.keySet().forEach(this::flush);
+    }
+
+    private void flush(String roomId) {
+        List<ChatMessage> messages = pending.remove(roomId);
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (messages.size() == 1) {
+                roomBroadcaster.broadcast(roomId, messages.get(0));
+            } else {
+                roomBroadcaster.publish(roomId, RoomBroadcaster.ROOM_TOPIC_PREFIX + roomId,
+                        RoomFrameCoalescer.BATCH_EVENT_TYPE, messages);
+            }
+            log.debug("자동 퇴장 알림 전송: roomId={}, count={}", roomId, messages.size());
+        } catch (Exception e) {
+            log.error("자동 퇴장 알림 전송 실패: roomId={}", roomId, e);
+        }
+    }
+}
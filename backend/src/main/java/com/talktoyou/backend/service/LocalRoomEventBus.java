@@ -0,0 +1,25 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.dto.RoomEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+// 단일 노드 모드: 현재 노드의 구독자에게 바로 전달
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.broker.mode", havingValue = "local", matchIfMissing = true)
+public class LocalRoomEventBus implements RoomEventBus {
+
+    private final RoomTopicSender roomTopicSender;
+
+    @Override
+    public void publish(RoomEvent event) {
+        roomTopicSender.deliver(event);
+    }
+
+    @Override
+    public boolean receivesAllEvents(String roomId) {
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.entity.Message;
+import com.talktoyou.backend.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 단일 노드 모드: 채팅방별 메모리 카운터 (처음 사용할 때 DB의 마지막 순번으로 시작)
+// write-behind 대기 중인 메시지의 순번과 겹치지 않도록 카운터는 제거하지 않는다
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.broker.mode", havingValue = "local", matchIfMissing = true)
+public class LocalRoomSequencer implements RoomSequencer {
+
+    private final MessageRepository messageRepository;
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public long next(String roomId) {
+        return counters.computeIfAbsent(roomId, key -> new AtomicLong(lastSeq(key))).incrementAndGet();
+    }
+
+    private long lastSeq(String roomId) {
+        return messageRepository.findTopByRoomIdOrderBySeqDesc(roomId)
+                .map(Message::getSeq)
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,439 @@
+package com.talktoyou.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talktoyou.backend.entity.Message;
+import com.talktoyou.backend.repository.MessageRepository;
+import com.talktoyou.backend.util.DiskSearchSegment;
+import com.talktoyou.backend.util.MemorySearchSegment;
+import com.talktoyou.backend.util.MessageTokenizer;
+import com.talktoyou.backend.util.SearchSegment;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// 메시지 전문 검색 역색인
+// 저장 경로(write-behind 일괄 저장, REST 전송)에서 저장이 끝난 메시지를 메모리 세그먼트에 추가하고,
+// 메모리 세그먼트가 차거나 일정 시간이 지나면 디스크 세그먼트로 내린 뒤 백그라운드에서 인접 세그먼트를 합친다
+// 검색은 세그먼트만 읽으며 messages 컬렉션은 조회하지 않는다
+// 시작 시 마지막으로 기록된 메시지 ID 이후의 메시지를 _id 순으로 읽어 따라잡고,
+// redis 모드에서는 다른 노드가 저장한 메시지도 같은 방식으로 주기적으로 가져온다
+@Slf4j
+@Service
+public class MessageSearchIndex {
+
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d+)-(\\d+)\\.idx");
+    private static final int CATCH_UP_BATCH_SIZE = 1000;
+    private static final Sort ID_ORDER = Sort.by(Sort.Direction.ASC, "messageId");
+
+    private final MessageRepository messageRepository;
+    private final Path directory;
+    private final int segmentSize;
+    private final long flushIntervalMillis;
+    private final int mergeFactor;
+    private final boolean tailRemoteWrites;
+    private final long tailIntervalMillis;
+    private final long tailLagMillis;
+
+    // 현재 노드에서 색인한 메시지 (따라잡기에서 중복 색인 방지)
+    private final Cache<String, Boolean> recentlyIndexed;
+
+    // 검색은 active -> flushing -> segments 순서로 읽어야 세그먼트 이동 중에도 누락이 없다
+    private volatile MemorySearchSegment active = new MemorySearchSegment();
+    private volatile long activeCreatedAt; // 현재 메모리 세그먼트에 첫 문서가 추가된 시각
+    private volatile List<MemorySearchSegment> flushing = List.of();
+    private volatile List<Segment> segments = List.of(); // 오래된 것부터, 색인 스레드에서만 변경
+
+    private final ScheduledExecutorService indexer;
+    private long nextGeneration;  // 색인 스레드에서만 사용
+    private String checkpoint;    // 따라잡기 위치 (색인 스레드에서만 사용)
+
+    public MessageSearchIndex(
+            MessageRepository messageRepository,
+            @Value("${app.message.search.directory:./data/message-index}") String directory,
+            @Value("${app.message.search.segment-size:20000}") int segmentSize,
+            @Value("${app.message.search.flush-interval:30}") long flushIntervalSeconds,
+            @Value("${app.message.search.merge-factor:8}") int mergeFactor,
+            @Value("${app.broker.mode:local}") String brokerMode,
+            @Value("${app.message.search.tail-interval:5}") long tailIntervalSeconds,
+            @Value("${app.message.search.tail-lag:10}") long tailLagSeconds) {
+
+        this.messageRepository = messageRepository;
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSize;
+        this.flushIntervalMillis = TimeUnit.SECONDS.toMillis(flushIntervalSeconds);
+        this.mergeFactor = Math.max(2, mergeFactor);
+        this.tailRemoteWrites = "redis".equalsIgnoreCase(brokerMode);
+        this.tailIntervalMillis = TimeUnit.SECONDS.toMillis(tailIntervalSeconds);
+        this.tailLagMillis = TimeUnit.SECONDS.toMillis(tailLagSeconds);
+        this.recentlyIndexed = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(tailLagMillis + tailIntervalMillis * 2 + 60_000))
+                .build();
+
+        this.indexer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        loadSegments();
+
+        indexer.execute(this::catchUp);
+        indexer.scheduleWithFixedDelay(this::flushIfIdle, 1, 1, TimeUnit.SECONDS);
+        if (tailRemoteWrites) {
+            indexer.scheduleWithFixedDelay(this::catchUp, tailIntervalMillis, tailIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        log.info("메시지 검색 색인 시작: directory={}, segments={}", directory.toAbsolutePath(), segments.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdown();
+        try {
+            indexer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 메모리 세그먼트는 바로 디스크에 기록
+        List<MemorySearchSegment> pending = new ArrayList<>(flushing);
+        pending.add(active);
+        pending.stream().filter(segment -> segment.docCount() > 0).forEach(this::flush);
+    }
+
+    // 저장이 끝난 메시지 색인
+    public void index(Message message) {
+        indexAll(List.of(message));
+    }
+
+    public void indexAll(Collection<Message> messages) {
+        for (Message message : messages) {
+            if (add(message)) {
+                recentlyIndexed.put(message.getMessageId(), Boolean.TRUE);
+            }
+        }
+    }
+
+    // 검색어의 모든 단어를 포함하는 메시지 ID를 최신순으로 최대 limit개 반환
+    // roomIds: 검색 대상 채팅방, beforeMessageId: 이 ID보다 이전 메시지만 (다음 페이지 조회용)
+    public List<String> search(String query, Collection<String> roomIds, String beforeMessageId, int limit) {
+        Set<String> terms = MessageTokenizer.tokenize(query);
+        if (terms.isEmpty() || roomIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // 문서 순서(색인 순서)는 메시지 ID 순서와 다를 수 있으므로 (따라잡기로 다른 노드의 이전 메시지가 뒤에 추가됨)
+        // 모든 세그먼트의 일치 항목 중 ID가 큰 것부터 limit개를 고른다
+        // 세그먼트 이동 중에는 같은 문서가 두 세그먼트에 보일 수 있으므로 ID로 중복 제거
+        TreeSet<String> result = new TreeSet<>(Comparator.reverseOrder());
+        for (SearchSegment segment : newestFirst()) {
+            collect(segment, terms, roomIds, beforeMessageId, limit, result);
+        }
+        return new ArrayList<>(result);
+    }
+
+    private List<SearchSegment> newestFirst() {
+        MemorySearchSegment current = active;
+        List<MemorySearchSegment> pending = flushing;
+        List<Segment> persisted = segments;
+
+        List<SearchSegment> ordered = new ArrayList<>(1 + pending.size() + persisted.size());
+        ordered.add(current);
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            ordered.add(pending.get(i));
+        }
+        for (int i = persisted.size() - 1; i >= 0; i--) {
+            ordered.add(persisted.get(i).data());
+        }
+        return ordered;
+    }
+
+    private static void collect(SearchSegment segment, Set<String> terms, Collection<String> roomIds,
+                                String beforeMessageId, int limit, TreeSet<String> result) {
+        // 검색 대상 채팅방이 하나도 없는 세그먼트는 건너뜀
+        BitSet allowedRooms = new BitSet();
+        for (String roomId : roomIds) {
+            int ordinal = segment.roomOrdinal(roomId);
+            if (ordinal >= 0) {
+                allowedRooms.set(ordinal);
+            }
+        }
+        if (allowedRooms.isEmpty()) {
+            return;
+        }
+
+        List<int[]> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            int[] docs = segment.postings(term);
+            if (docs == null) {
+                return;
+            }
+            lists.add(docs);
+        }
+        lists.sort(Comparator.comparingInt(docs -> docs.length));
+
+        int[] docs = lists.get(0);
+        int size = docs.length;
+        for (int i = 1; i < lists.size() && size > 0; i++) {
+            docs = intersect(docs, size, lists.get(i));
+            size = docs.length;
+        }
+
+        // ID 내림차순으로 limit개만 유지
+        for (int i = 0; i < size; i++) {
+            int doc = docs[i];
+            if (!allowedRooms.get(segment.roomOrdinal(doc))) {
+                continue;
+            }
+            String messageId = segment.messageId(doc);
+            if (beforeMessageId != null && messageId.compareTo(beforeMessageId) >= 0) {
+                continue;
+            }
+            if (result.size() >= limit && messageId.compareTo(result.last()) <= 0) {
+                continue;
+            }
+            if (result.add(messageId) && result.size() > limit) {
+                result.pollLast();
+            }
+        }
+    }
+
+    private static int[] intersect(int[] left, int leftSize, int[] right) {
+        int[] result = new int[Math.min(leftSize, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < leftSize && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    private boolean add(Message message) {
+        if (message.getMessageId() == null || !ObjectId.isValid(message.getMessageId()) || message.isEmpty()) {
+            return false;
+        }
+
+        Set<String> terms = MessageTokenizer.tokenize(message.getContent());
+        if (terms.isEmpty()) {
+            return false;
+        }
+
+        synchronized (this) {
+            if (active.docCount() == 0) {
+                activeCreatedAt = System.currentTimeMillis();
+            }
+            active.add(message.getMessageId(), message.getRoomId(), terms);
+            if (active.docCount() >= segmentSize) {
+                rotate();
+            }
+        }
+        return true;
+    }
+
+    // 현재 메모리 세그먼트를 고정하고 색인 스레드에서 디스크에 기록 (this 락 안에서 호출)
+    private void rotate() {
+        MemorySearchSegment frozen = active;
+        List<MemorySearchSegment> pending = new ArrayList<>(flushing);
+        pending.add(frozen);
+        flushing = List.copyOf(pending);
+        active = new MemorySearchSegment();
+
+        if (indexer.isShutdown()) {
+            return; // 종료 중이면 shutdown에서 기록
+        }
+        indexer.execute(() -> {
+            flush(frozen);
+            mergeIfNeeded();
+        });
+    }
+
+    private void flushIfIdle() {
+        synchronized (this) {
+            if (active.docCount() == 0 || System.currentTimeMillis() - activeCreatedAt < flushIntervalMillis) {
+                return;
+            }
+            rotate();
+        }
+    }
+
+    private void flush(MemorySearchSegment frozen) {
+        long generation = nextGeneration++;
+        try {
+            DiskSearchSegment written = DiskSearchSegment.write(segmentPath(generation, generation), List.of(frozen));
+            List<Segment> next = new ArrayList<>(segments);
+            next.add(new Segment(generation, generation, written));
+            segments = List.copyOf(next);
+        } catch (Exception e) {
+            // 기록에 실패하면 메모리에서만 유지 (재시작 시 따라잡기로 다시 색인)
+            log.error("검색 세그먼트 기록 실패: docs={}", frozen.docCount(), e);
+            return;
+        }
+
+        // rotate()와 같은 락 안에서 갱신 (요청 스레드의 rotate와 동시에 실행되면 한쪽 변경이 사라짐)
+        synchronized (this) {
+            List<MemorySearchSegment> pending = new ArrayList<>(flushing);
+            pending.remove(frozen);
+            flushing = List.copyOf(pending);
+        }
+        log.debug("검색 세그먼트 기록: generation={}, docs={}", generation, frozen.docCount());
+    }
+
+    // 세그먼트 수가 한도를 넘으면 문서 수 합이 가장 작은 인접한 두 세그먼트를 합친다 (시간 순서 유지)
+    private void mergeIfNeeded() {
+        while (segments.size() > mergeFactor) {
+            List<Segment> current = segments;
+            int best = 0;
+            for (int i = 1; i + 1 < current.size(); i++) {
+                if (mergedSize(current, i) < mergedSize(current, best)) {
+                    best = i;
+                }
+            }
+
+            Segment older = current.get(best);
+            Segment newer = current.get(best + 1);
+            long start = System.currentTimeMillis();
+            try {
+                DiskSearchSegment merged = DiskSearchSegment.write(
+                        segmentPath(older.firstGeneration(), newer.lastGeneration()),
+                        List.of(older.data(), newer.data()));
+
+                List<Segment> next = new ArrayList<>(current);
+                next.set(best, new Segment(older.firstGeneration(), newer.lastGeneration(), merged));
+                next.remove(best + 1);
+                segments = List.copyOf(next);
+
+                // 진행 중인 검색은 매핑된 버퍼로 계속 읽을 수 있으므로 바로 삭제
+                Files.deleteIfExists(older.data().getFile());
+                Files.deleteIfExists(newer.data().getFile());
+                log.debug("검색 세그먼트 병합: docs={}, {}ms", merged.docCount(), System.currentTimeMillis() - start);
+            } catch (IOException e) {
+                log.error("검색 세그먼트 병합 실패", e);
+                return;
+            }
+        }
+    }
+
+    private static long mergedSize(List<Segment> segments, int index) {
+        return (long) segments.get(index).data().docCount() + segments.get(index + 1).data().docCount();
+    }
+
+    // 마지막으로 색인된 메시지 이후의 메시지를 _id 순으로 읽어 색인
+    // redis 모드에서는 다른 노드의 저장 지연을 고려해 tail-lag 이전에 생성된 ID까지만 읽는다
+    private void catchUp() {
+        try {
+            ObjectId upper = tailRemoteWrites
+                    ? ObjectId.getSmallestWithDate(new Date(System.currentTimeMillis() - tailLagMillis))
+                    : null;
+            int indexed = 0;
+            while (true) {
+                ObjectId from = new ObjectId(checkpoint);
+                PageRequest page = PageRequest.of(0, CATCH_UP_BATCH_SIZE, ID_ORDER);
+                List<Message> batch = upper == null
+                        ? messageRepository.findAfterId(from, page)
+                        : messageRepository.findBetweenIds(from, upper, page);
+                for (Message message : batch) {
+                    if (recentlyIndexed.getIfPresent(message.getMessageId()) == null && add(message)) {
+                        indexed++;
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    checkpoint = batch.get(batch.size() - 1).getMessageId();
+                }
+                if (batch.size() < CATCH_UP_BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (indexed > 0) {
+                log.info("메시지 검색 색인 따라잡기: indexed={}", indexed);
+            }
+        } catch (Exception e) {
+            log.error("메시지 검색 색인 따라잡기 실패", e);
+        }
+    }
+
+    // 디스크 세그먼트 적재 (병합 도중 종료되어 남은 중복 세그먼트와 임시 파일은 정리)
+    private void loadSegments() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.toList();
+        }
+
+        List<Segment> loaded = new ArrayList<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(".tmp")) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            Matcher matcher = SEGMENT_FILE.matcher(name);
+            if (matcher.matches()) {
+                loaded.add(new Segment(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)),
+                        DiskSearchSegment.open(file)));
+            }
+        }
+
+        loaded.sort(Comparator.comparingLong(Segment::firstGeneration)
+                .thenComparing(Comparator.comparingLong(Segment::lastGeneration).reversed()));
+        List<Segment> result = new ArrayList<>();
+        for (Segment segment : loaded) {
+            if (!result.isEmpty() && segment.lastGeneration() <= result.get(result.size() - 1).lastGeneration()) {
+                Files.deleteIfExists(segment.data().getFile()); // 병합 결과에 이미 포함된 세그먼트
+                continue;
+            }
+            result.add(segment);
+        }
+
+        segments = List.copyOf(result);
+        nextGeneration = result.isEmpty() ? 0 : result.get(result.size() - 1).lastGeneration() + 1;
+        checkpoint = result.stream()
+                .map(segment -> segment.data().maxMessageId())
+                .max(Comparator.naturalOrder())
+                .orElse(new ObjectId(new byte[12]).toHexString());
+    }
+
+    private Path segmentPath(long firstGeneration, long lastGeneration) {
+        return directory.resolve(String.format("segment-%012d-%012d.idx", firstGeneration, lastGeneration));
+    }
+
+    // 디스크 세그먼트와 포함된 기록 세대 범위 (병합되면 범위가 합쳐짐)
+    private record Segment(long firstGeneration, long lastGeneration, DiskSearchSegment data) {
+    }
+}
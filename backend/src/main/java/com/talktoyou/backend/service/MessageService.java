@@ -1,21 +1,33 @@
 package com.talktoyou.backend.service;
 
+import com.talktoyou.backend.dto.ChatMessage;
+import com.talktoyou.backend.dto.UserSummary;
 import com.talktoyou.backend.dto.request.SendMessageRequest;
+import com.talktoyou.backend.dto.response.MessagePageResponse;
 import com.talktoyou.backend.dto.response.MessageResponse;
+import com.talktoyou.backend.dto.response.ResumeResponse;
 import com.talktoyou.backend.entity.ChatRoom;
 import com.talktoyou.backend.entity.Message;
-import com.talktoyou.backend.entity.User;
+import com.talktoyou.backend.entity.RoomMember;
 import com.talktoyou.backend.repository.ChatRoomRepository;
 import com.talktoyou.backend.repository.MessageRepository;
 import com.talktoyou.backend.repository.RoomMemberRepository;
-import com.talktoyou.backend.repository.UserRepository;
+import com.talktoyou.backend.util.MessageCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,10 +36,23 @@ import java.util.stream.Collectors;
 @Transactional
 public class MessageService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_RESUME_SIZE = 500;
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "messageId");
+    private static final Sort OLDEST_FIRST = Sort.by(Sort.Direction.ASC, "createdAt", "messageId");
+
     private final MessageRepository messageRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final UserSummaryService userSummaryService;
+    private final RoomMessageCache roomMessageCache;
+    private final RoomMembershipCache roomMembershipCache;
+    private final RoomBroadcaster roomBroadcaster;
     private final RoomMemberRepository roomMemberRepository;
-    private final UserRepository userRepository;
+    private final MessageSearchIndex messageSearchIndex;
+    private final UnreadCounterService unreadCounterService;
+    private final RoomSequencer roomSequencer;
 
     // 메시지 전송
     public MessageResponse sendMessage(String roomId, SendMessageRequest request, String userId) {
@@ -36,11 +61,11 @@ public class MessageService {
                 .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
 
         // 사용자 존재 확인
-        User user = userRepository.findById(userId)
+        UserSummary user = userSummaryService.get(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         // 채팅방 참여 여부 확인
-        if (!roomMemberRepository.existsByUserIdAndRoomId(userId, roomId)) {
+        if (!roomMembershipCache.isMember(userId, roomId)) {
             throw new RuntimeException("채팅방에 참여하지 않은 사용자입니다.");
         }
 
@@ -48,15 +73,33 @@ public class MessageService {
         Message message = Message.builder()
                 .userId(userId)
                 .roomId(roomId)
+                .seq(roomSequencer.next(roomId))
                 .content(request.getContent())
                 .createdAt(LocalDateTime.now())
                 .build();
 
         Message savedMessage = messageRepository.save(message);
+        messageSearchIndex.index(savedMessage);
+        unreadCounterService.onPersisted(List.of(savedMessage));
+
+        log.debug("메시지 전송 완료: {} in room {}", user.getUserName(), room.getRoomName());
 
-        log.info("메시지 전송 완료: {} in room {}", user.getUserName(), room.getRoomName());
+        MessageResponse response = convertToMessageResponse(savedMessage, user);
+        roomMessageCache.append(response);
 
-        return convertToMessageResponse(savedMessage, user);
+        // WebSocket 구독자에게 전달 (redis 모드에서는 다른 노드의 최근 메시지 캐시에도 반영됨)
+        roomBroadcaster.broadcast(roomId, ChatMessage.builder()
+                .type(ChatMessage.MessageType.CHAT)
+                .messageId(savedMessage.getMessageId())
+                .roomId(roomId)
+                .seq(savedMessage.getSeq())
+                .userId(userId)
+                .userName(user.getUserName())
+                .content(savedMessage.getContent())
+                .timestamp(savedMessage.getCreatedAt())
+                .build());
+
+        return response;
     }
 
     // 특정 채팅방의 메시지 목록 조회
@@ -66,32 +109,229 @@ public class MessageService {
                 .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
 
         // 채팅방 참여 여부 확인
-        if (!roomMemberRepository.existsByUserIdAndRoomId(userId, roomId)) {
+        if (!roomMembershipCache.isMember(userId, roomId)) {
+            throw new RuntimeException("채팅방에 참여하지 않은 사용자입니다.");
+        }
+
+        // 최근 메시지는 메모리 캐시에서 제공 (캐시 미스일 때만 DB 조회)
+        return recentMessages(roomId);
+    }
+
+    // 커서 기반 메시지 페이지 조회
+    // before: 커서보다 오래된 메시지 (스크롤백), after: 커서보다 최신 메시지, 둘 다 없으면 최신 페이지
+    public MessagePageResponse getMessagePage(String roomId, String userId,
+                                              String before, String after, Integer size) {
+        if (before != null && after != null) {
+            throw new RuntimeException("before와 after 커서는 동시에 사용할 수 없습니다.");
+        }
+
+        // 채팅방 존재 확인
+        chatRoomRepository.findByRoomIdAndDeletedAtIsNull(roomId)
+                .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
+
+        // 채팅방 참여 여부 확인
+        if (!roomMembershipCache.isMember(userId, roomId)) {
+            throw new RuntimeException("채팅방에 참여하지 않은 사용자입니다.");
+        }
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 한 개를 더 읽어서 다음 페이지 존재 여부 판단
+        PageRequest newestFirst = PageRequest.of(0, pageSize + 1, NEWEST_FIRST);
+
+        if (after != null) {
+            MessageCursor cursor = MessageCursor.decode(after);
+            List<Message> messages = messageRepository.findPageAfter(roomId, cursor.getCreatedAt(),
+                    toObjectId(cursor), PageRequest.of(0, pageSize + 1, OLDEST_FIRST));
+
+            boolean hasMore = messages.size() > pageSize;
+            List<MessageResponse> page = toResponses(hasMore ? messages.subList(0, pageSize) : messages);
+            // 최신 방향 조회는 더 이상 메시지가 없어도 이어서 조회할 수 있도록 항상 커서 반환
+            return toPageResponse(page, hasMore, page.isEmpty() ? after : cursorOf(page.get(page.size() - 1)));
+        }
+
+        List<Message> messages;
+        if (before != null) {
+            MessageCursor cursor = MessageCursor.decode(before);
+            messages = messageRepository.findPageBefore(roomId, cursor.getCreatedAt(), toObjectId(cursor), newestFirst);
+        } else {
+            // 최신 페이지는 최근 메시지 캐시로 충분하면 캐시에서 제공
+            List<MessageResponse> recent = recentMessages(roomId);
+            if (pageSize <= recent.size() || recent.size() < roomMessageCache.getMessagesPerRoom()) {
+                boolean hasMore = recent.size() > pageSize || recent.size() >= roomMessageCache.getMessagesPerRoom();
+                List<MessageResponse> page = recent.subList(Math.max(0, recent.size() - pageSize), recent.size());
+                return toPageResponse(page, hasMore, hasMore ? cursorOf(page.get(0)) : null);
+            }
+            messages = messageRepository.findByRoomId(roomId, newestFirst);
+        }
+
+        boolean hasMore = messages.size() > pageSize;
+        List<Message> pageMessages = hasMore ? messages.subList(0, pageSize) : messages;
+
+        // 최신순으로 읽었으므로 오래된 것부터 정렬하여 반환
+        List<MessageResponse> page = toResponses(pageMessages);
+        Collections.reverse(page);
+        return toPageResponse(page, hasMore, hasMore ? cursorOf(page.get(0)) : null);
+    }
+
+    // 재연결 시 놓친 메시지 재전송 (lastSeq 이후, 순번순)
+    // 최근 메시지 캐시가 lastSeq 직후부터 빠진 순번 없이 담고 있으면 캐시만 사용하고, 아니면 DB에서 읽은 뒤
+    // 아직 저장되지 않은(write-behind 대기 중) 메시지를 캐시에서 보충한다
+    // truncated=true이면 마지막으로 받은 순번으로 다시 요청해야 한다
+    public ResumeResponse resume(String roomId, String userId, long lastSeq) {
+        // 채팅방 참여 여부 확인
+        if (!roomMembershipCache.isMember(userId, roomId)) {
             throw new RuntimeException("채팅방에 참여하지 않은 사용자입니다.");
         }
 
+        long fromSeq = Math.max(0, lastSeq);
+        List<MessageResponse> cached = roomBroadcaster.receivesAllEvents(roomId)
+                ? roomMessageCache.peek(roomId)
+                : List.of();
+
+        TreeMap<Long, MessageResponse> missed = new TreeMap<>();
+        boolean reachesLastSeq = false;
+        for (MessageResponse message : cached) {
+            if (message.getSeq() == null) {
+                continue;
+            }
+            if (message.getSeq() <= fromSeq + 1) {
+                reachesLastSeq = true;
+            }
+            if (message.getSeq() > fromSeq) {
+                missed.put(message.getSeq(), message);
+            }
+        }
+        // 캐시는 브로드캐스트 순서대로 채워지므로 순번 사이가 비어 있을 수 있다 (fromSeq+1부터 연속일 때만 캐시 사용)
+        boolean coveredByCache = reachesLastSeq
+                && (missed.isEmpty() || missed.lastKey() - fromSeq == missed.size());
+
+        if (!coveredByCache) {
+            List<Message> messages = messageRepository.findByRoomIdAndSeqGreaterThanOrderBySeqAsc(
+                    roomId, fromSeq, PageRequest.of(0, MAX_RESUME_SIZE + 1));
+            toResponses(messages).forEach(message -> missed.putIfAbsent(message.getSeq(), message));
+        }
+
+        boolean truncated = missed.size() > MAX_RESUME_SIZE;
+        List<MessageResponse> replay = missed.values().stream()
+                .limit(MAX_RESUME_SIZE)
+                .toList();
+
+        log.debug("메시지 재전송: roomId={}, lastSeq={}, count={}, fromCache={}",
+                roomId, fromSeq, replay.size(), coveredByCache);
+
+        return ResumeResponse.builder()
+                .roomId(roomId)
+                .lastSeq(fromSeq)
+                .messages(replay)
+                .truncated(truncated)
+                .build();
+    }
+
+    // 메시지 검색 (최신순, 커서 기반)
+    // roomId가 없으면 참여 중인 모든 채팅방에서 검색한다
+    public MessagePageResponse searchMessages(String userId, String query, String roomId,
+                                              String before, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new RuntimeException("검색어를 입력해주세요.");
+        }
+
+        List<String> roomIds;
+        if (roomId != null) {
+            // 채팅방 참여 여부 확인
+            if (!roomMembershipCache.isMember(userId, roomId)) {
+                throw new RuntimeException("채팅방에 참여하지 않은 사용자입니다.");
+            }
+            roomIds = List.of(roomId);
+        } else {
+            roomIds = roomMemberRepository.findByUserIdOrderByJoinedAtDesc(userId).stream()
+                    .map(RoomMember::getRoomId)
+                    .toList();
+        }
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String beforeId = before == null ? null : MessageCursor.decode(before).getMessageId();
+
+        // 한 개를 더 찾아서 다음 페이지 존재 여부 판단
+        List<String> messageIds = messageSearchIndex.search(query, roomIds, beforeId, pageSize + 1);
+        boolean hasMore = messageIds.size() > pageSize;
+        if (hasMore) {
+            messageIds = messageIds.subList(0, pageSize);
+        }
+
+        // 색인 순서(최신순)대로 본문 조회
+        Map<String, Message> found = new HashMap<>();
+        messageRepository.findAllById(messageIds).forEach(message -> found.put(message.getMessageId(), message));
+        List<MessageResponse> page = toResponses(messageIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList());
+
+        return toPageResponse(page, hasMore, hasMore && !page.isEmpty() ? cursorOf(page.get(page.size() - 1)) : null);
+    }
+
+    // 최근 메시지 조회: 현재 노드가 채팅방의 모든 이벤트를 받고 있을 때만 캐시 사용
+    private List<MessageResponse> recentMessages(String roomId) {
+        if (!roomBroadcaster.receivesAllEvents(roomId)) {
+            return loadRecentMessages(roomId);
+        }
+        return roomMessageCache.getRecent(roomId, () -> loadRecentMessages(roomId));
+    }
+
+    // DB에서 최근 50개 메시지 조회
+    private List<MessageResponse> loadRecentMessages(String roomId) {
         // 최근 50개 메시지 조회 (시간 역순으로 가져온 후 다시 정순으로 정렬)
         List<Message> messages = messageRepository.findTop50ByRoomIdOrderByCreatedAtDesc(roomId);
 
         // 정순으로 다시 정렬 (오래된 것부터)
-        messages = messages.stream()
+        messages = oldestFirst(messages);
+
+        // MessageResponse로 변환
+        return toResponses(messages);
+    }
+
+    // 생성 시각 기준 오래된 것부터 정렬한 새 목록
+    public static List<Message> oldestFirst(List<Message> messages) {
+        return messages.stream()
                 .sorted((m1, m2) -> m1.getCreatedAt().compareTo(m2.getCreatedAt()))
                 .collect(Collectors.toList());
+    }
+
+    // 작성자 정보는 한 번에 일괄 조회하여 변환
+    private List<MessageResponse> toResponses(List<Message> messages) {
+        Map<String, UserSummary> users = userSummaryService.resolveAll(
+                messages.stream().map(Message::getUserId).toList());
 
-        // MessageResponse로 변환
         return messages.stream()
-                .map(message -> {
-                    User messageUser = userRepository.findById(message.getUserId()).orElse(null);
-                    return convertToMessageResponse(message, messageUser);
-                })
+                .map(message -> convertToMessageResponse(message, users.get(message.getUserId())))
                 .collect(Collectors.toList());
     }
 
+    private MessagePageResponse toPageResponse(List<MessageResponse> page, boolean hasMore, String nextCursor) {
+        return MessagePageResponse.builder()
+                .messages(page)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private String cursorOf(MessageResponse message) {
+        return MessageCursor.encode(message.getCreatedAt(), message.getMessageId());
+    }
+
+    private ObjectId toObjectId(MessageCursor cursor) {
+        if (!ObjectId.isValid(cursor.getMessageId())) {
+            throw new RuntimeException("유효하지 않은 커서입니다.");
+        }
+        return new ObjectId(cursor.getMessageId());
+    }
+
     // Entity를 Response로 변환
-    private MessageResponse convertToMessageResponse(Message message, User user) {
+    private MessageResponse convertToMessageResponse(Message message, UserSummary user) {
         return MessageResponse.builder()
                 .messageId(message.getMessageId())
                 .roomId(message.getRoomId())
+                .seq(message.getSeq())
                 .userId(message.getUserId())
                 .userName(user != null ? user.getUserName() : "Unknown")
                 .content(message.getContent())
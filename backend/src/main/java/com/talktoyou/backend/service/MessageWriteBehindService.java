@@ -0,0 +1,245 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.entity.Message;
+import com.talktoyou.backend.repository.MessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 채팅 메시지를 버퍼에 모아 두었다가 일괄 저장하는 write-behind 파이프라인
+@Slf4j
+@Service
+public class MessageWriteBehindService {
+
+    private final MessageRepository messageRepository;
+    private final MessageSearchIndex messageSearchIndex;
+    private final UnreadCounterService unreadCounterService;
+    private final BlockingQueue<Message> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter flushedCounter;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+    // running 확인과 offer를 종료 처리와 분리되지 않게 묶는다 (마지막 drain 이후에 들어온 메시지 유실 방지)
+    private final ReentrantReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    public MessageWriteBehindService(
+            MessageRepository messageRepository,
+            MessageSearchIndex messageSearchIndex,
+            UnreadCounterService unreadCounterService,
+            MeterRegistry meterRegistry,
+            @Value("${app.message.write-behind.capacity:10000}") int capacity,
+            @Value("${app.message.write-behind.batch-size:200}") int batchSize,
+            @Value("${app.message.write-behind.flush-interval:50}") long flushIntervalMillis) {
+
+        this.messageRepository = messageRepository;
+        this.messageSearchIndex = messageSearchIndex;
+        this.unreadCounterService = unreadCounterService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        Gauge.builder("chat.message.writebehind.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 메시지 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.message.writebehind.flush")
+                .description("일괄 저장 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("chat.message.writebehind.batch.size")
+                .description("일괄 저장 한 번에 포함된 메시지 수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("chat.message.writebehind.flushed")
+                .description("저장 완료된 메시지 수")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("chat.message.writebehind.overflow")
+                .description("버퍼가 가득 차서 직접 저장된 메시지 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chat.message.writebehind.failed")
+                .description("저장에 실패한 메시지 수")
+                .register(meterRegistry);
+
+        this.flusher = new Thread(this::runFlushLoop, "message-write-behind");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.start();
+        log.info("메시지 write-behind 시작: batchSize={}, flushInterval={}ms", batchSize, flushIntervalMillis);
+    }
+
+    // 메시지를 저장 대기열에 추가 (ID는 미리 발급하여 브로드캐스트/캐시에서 바로 사용 가능)
+    public Message enqueue(Message message) {
+        if (message.getMessageId() == null) {
+            message.setMessageId(new ObjectId().toHexString());
+        }
+
+        boolean queued;
+        lifecycleLock.readLock().lock();
+        try {
+            queued = running && queue.offer(message);
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+
+        if (!queued) {
+            // 버퍼가 가득 찼거나 종료 중이면 호출 스레드에서 직접 저장 (backpressure)
+            overflowCounter.increment();
+            log.warn("write-behind 버퍼 포화, 메시지를 직접 저장합니다: roomId={}", message.getRoomId());
+            saveDirectly(message);
+        }
+        return message;
+    }
+
+    // 저장 대기 중인 메시지 수
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 이후의 enqueue는 직접 저장하므로, 여기까지 대기열에 들어간 메시지만 남은 drain에서 저장하면 된다
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        try {
+            // 진행 중인 배치가 끝날 때까지 대기 (poll 타임아웃 후 루프 종료)
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 남은 메시지를 모두 저장
+        List<Message> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+        log.info("메시지 write-behind 종료: 잔여 메시지 저장 완료");
+    }
+
+    private void runFlushLoop() {
+        List<Message> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                log.warn("write-behind 스레드 인터럽트, 수집된 배치까지 저장 후 종료합니다");
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // 크기 트리거(batchSize) 또는 시간 트리거(flushInterval) 중 먼저 도달할 때까지 메시지 수집
+    private void collectBatch(List<Message> batch) throws InterruptedException {
+        Message first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) {
+                return;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !running) {
+                return;
+            }
+
+            Message next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<Message> batch) {
+        long start = System.nanoTime();
+        List<Message> saved = batch;
+        try {
+            messageRepository.insert(batch);
+            flushedCounter.increment(batch.size());
+            log.debug("메시지 일괄 저장 완료: count={}", batch.size());
+        } catch (Exception e) {
+            // 일부만 저장되었을 수 있으므로 개별 저장(upsert)으로 재시도
+            log.error("메시지 일괄 저장 실패, 개별 저장으로 재시도합니다: count={}", batch.size(), e);
+            saved = new ArrayList<>(batch.size());
+            for (Message message : batch) {
+                if (persist(message)) {
+                    saved.add(message);
+                }
+            }
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(batch.size());
+        }
+        afterPersisted(saved);
+    }
+
+    private void saveDirectly(Message message) {
+        if (persist(message)) {
+            afterPersisted(List.of(message));
+        }
+    }
+
+    private boolean persist(Message message) {
+        try {
+            messageRepository.save(message);
+            flushedCounter.increment();
+            return true;
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("메시지 저장 실패: messageId={}, roomId={}", message.getMessageId(), message.getRoomId(), e);
+            return false;
+        }
+    }
+
+    // 저장에 성공한 메시지의 후속 처리 (저장 재시도와 분리하여 메시지당 한 번만 실행)
+    private void afterPersisted(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            messageSearchIndex.indexAll(messages);
+        } catch (Exception e) {
+            log.error("메시지 색인 실패: count={}", messages.size(), e);
+        }
+        unreadCounterService.onPersisted(messages);
+    }
+}
@@ -0,0 +1,172 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.dto.PresenceEvent;
+import com.talktoyou.backend.dto.UserSummary;
+import com.talktoyou.backend.dto.response.PresenceResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 채팅방별 현재 접속자 (현재 노드의 WebSocket 세션 기준)
+// 변경은 채팅방 단위 락으로 처리하고, 조회는 미리 만들어 둔 불변 스냅샷을 그대로 반환한다 (O(1))
+// 사용자의 첫 세션이 들어오거나 마지막 세션이 나갈 때만 /topic/room/{roomId}/presence 로 변경분을 보낸다
+// 접속 상태와 version은 노드별이므로 변경분도 현재 노드의 구독자에게만 보낸다 (redis 모드에서 다른 노드의 version과 섞이지 않도록)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresenceRegistry {
+
+    public static final String PRESENCE_EVENT_TYPE = "PRESENCE";
+
+    private final RoomBroadcaster roomBroadcaster;
+    private final RoomMembershipCache roomMembershipCache;
+
+    // roomId -> 채팅방 접속 상태
+    private final Map<String, RoomPresence> rooms = new ConcurrentHashMap<>();
+    // sessionId -> 세션이 들어가 있는 채팅방 (연결 종료 시 정리용)
+    private final Map<String, Set<String>> sessionRooms = new ConcurrentHashMap<>();
+
+    // 세션의 채팅방 입장
+    public void join(String roomId, String sessionId, UserSummary user) {
+        sessionRooms.computeIfAbsent(sessionId, key -> ConcurrentHashMap.newKeySet()).add(roomId);
+        rooms.compute(roomId, (key, presence) -> {
+            RoomPresence target = presence != null ? presence : new RoomPresence(roomId);
+            target.add(sessionId, user);
+            return target;
+        });
+    }
+
+    // 세션의 채팅방 퇴장
+    public void leave(String roomId, String sessionId) {
+        Set<String> joined = sessionRooms.get(sessionId);
+        if (joined != null) {
+            joined.remove(roomId);
+        }
+        removeFromRoom(roomId, sessionId);
+    }
+
+    // 연결 종료된 세션을 모든 채팅방에서 제거
+    public void removeSession(String sessionId) {
+        Set<String> joined = sessionRooms.remove(sessionId);
+        if (joined == null) {
+            return;
+        }
+        for (String roomId : joined) {
+            removeFromRoom(roomId, sessionId);
+        }
+    }
+
+    // 마지막 접속자가 나가면 채팅방 항목도 같은 compute 안에서 제거
+    private void removeFromRoom(String roomId, String sessionId) {
+        rooms.computeIfPresent(roomId, (key, presence) -> {
+            presence.remove(sessionId);
+            return presence.isEmpty() ? null : presence;
+        });
+    }
+
+    // 접속자 스냅샷 조회 (채팅방 참여자만)
+    public PresenceResponse getSnapshot(String roomId, String userId) {
+        if (!roomMembershipCache.isMember(userId, roomId)) {
+            throw new RuntimeException("채팅방에 참여하지 않은 사용자입니다.");
+        }
+        return getSnapshot(roomId);
+    }
+
+    public PresenceResponse getSnapshot(String roomId) {
+        RoomPresence presence = rooms.get(roomId);
+        if (presence == null) {
+            return PresenceResponse.builder().roomId(roomId).users(List.of()).build();
+        }
+        return presence.snapshot;
+    }
+
+    // 채팅방 하나의 접속 상태 (rooms.compute 안에서만 변경)
+    // 변경분 발행도 락 안에서 수행하여 version 순서대로 전달되도록 한다
+    private final class RoomPresence {
+
+        private final String roomId;
+        private final Map<String, String> sessionUsers = new HashMap<>();        // sessionId -> userId
+        private final Map<String, Set<String>> userSessions = new HashMap<>();   // userId -> sessionIds
+        private final Map<String, UserSummary> users = new LinkedHashMap<>();    // 접속 순서 유지
+        private long version;
+        private volatile PresenceResponse snapshot;
+
+        private RoomPresence(String roomId) {
+            this.roomId = roomId;
+            this.snapshot = buildSnapshot();
+        }
+
+        synchronized void add(String sessionId, UserSummary user) {
+            String previous = sessionUsers.put(sessionId, user.getUserId());
+            if (previous != null && !previous.equals(user.getUserId())) {
+                detach(sessionId, previous);
+            }
+
+            Set<String> sessions = userSessions.computeIfAbsent(user.getUserId(), key -> new HashSet<>());
+            boolean firstSession = sessions.isEmpty();
+            sessions.add(sessionId);
+            if (firstSession) {
+                users.put(user.getUserId(), user);
+                changed(user, PresenceEvent.Status.ONLINE);
+            }
+        }
+
+        synchronized void remove(String sessionId) {
+            String userId = sessionUsers.remove(sessionId);
+            if (userId != null) {
+                detach(sessionId, userId);
+            }
+        }
+
+        synchronized boolean isEmpty() {
+            return sessionUsers.isEmpty();
+        }
+
+        private void detach(String sessionId, String userId) {
+            Set<String> sessions = userSessions.get(userId);
+            if (sessions == null || !sessions.remove(sessionId) || !sessions.isEmpty()) {
+                return;
+            }
+            userSessions.remove(userId);
+            UserSummary user = users.remove(userId);
+            changed(user, PresenceEvent.Status.OFFLINE);
+        }
+
+        private void changed(UserSummary user, PresenceEvent.Status status) {
+            version++;
+            snapshot = buildSnapshot();
+
+            PresenceEvent event = PresenceEvent.builder()
+                    .roomId(roomId)
+                    .userId(user.getUserId())
+                    .userName(user.getUserName())
+                    .status(status)
+                    .version(version)
+                    .onlineCount(users.size())
+                    .build();
+            try {
+                roomBroadcaster.publishLocal(roomId, RoomBroadcaster.ROOM_TOPIC_PREFIX + roomId + "/presence",
+                        PRESENCE_EVENT_TYPE, event);
+            } catch (Exception e) {
+                log.error("접속 상태 알림 실패: roomId={}, userId={}", roomId, user.getUserId(), e);
+            }
+        }
+
+        private PresenceResponse buildSnapshot() {
+            return PresenceResponse.builder()
+                    .roomId(roomId)
+                    .version(version)
+                    .onlineCount(users.size())
+                    .users(List.copyOf(users.values()))
+                    .build();
+        }
+    }
+}
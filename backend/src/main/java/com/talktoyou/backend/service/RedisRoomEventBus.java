@@ -0,0 +1,110 @@
+package com.talktoyou.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktoyou.backend.config.NodeIdentity;
+import com.talktoyou.backend.config.RoomSubscriptionTracker;
+import com.talktoyou.backend.dto.ChatMessage;
+import com.talktoyou.backend.dto.RoomEvent;
+import com.talktoyou.backend.dto.response.MessageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 클러스터 모드: 채팅방 이벤트를 Redis 채널(room-events:{roomId})로 발행하고,
+// 각 노드는 로컬 구독자가 있는 채팅방 채널만 구독하여 자신의 구독자에게 전달한다
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.broker.mode", havingValue = "redis")
+public class RedisRoomEventBus implements RoomEventBus, MessageListener, RoomSubscriptionTracker.Listener {
+
+    private static final String CHANNEL_PREFIX = "room-events:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RoomTopicSender roomTopicSender;
+    private final RoomMessageCache roomMessageCache;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+
+    // Redis 채널을 구독 중인 채팅방
+    private final Set<String> relayedRooms = ConcurrentHashMap.newKeySet();
+
+    public RedisRoomEventBus(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            RoomTopicSender roomTopicSender,
+            RoomMessageCache roomMessageCache,
+            ObjectMapper objectMapper,
+            NodeIdentity nodeIdentity,
+            RoomSubscriptionTracker subscriptionTracker) {
+
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.roomTopicSender = roomTopicSender;
+        this.roomMessageCache = roomMessageCache;
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeIdentity.getNodeId();
+
+        subscriptionTracker.addListener(this);
+    }
+
+    @Override
+    public void publish(RoomEvent event) {
+        event.setOriginNodeId(nodeId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + event.getRoomId(), objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            // Redis 장애 시 최소한 현재 노드의 구독자에게는 전달
+            log.error("채팅방 이벤트 발행 실패, 로컬 구독자에게만 전달합니다: roomId={}", event.getRoomId(), e);
+            roomTopicSender.deliver(event);
+        }
+    }
+
+    @Override
+    public boolean receivesAllEvents(String roomId) {
+        return relayedRooms.contains(roomId);
+    }
+
+    @Override
+    public void onFirstSubscriber(String roomId) {
+        // 구독하지 않던 동안 다른 노드의 메시지를 놓쳤을 수 있으므로 캐시를 비운다
+        roomMessageCache.evict(roomId);
+        relayedRooms.add(roomId);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + roomId));
+        log.debug("채팅방 채널 구독 시작: roomId={}", roomId);
+    }
+
+    @Override
+    public void onLastSubscriberGone(String roomId) {
+        listenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + roomId));
+        relayedRooms.remove(roomId);
+        roomMessageCache.evict(roomId);
+        log.debug("채팅방 채널 구독 종료: roomId={}", roomId);
+    }
+
+    // Redis로 수신한 이벤트를 로컬 구독자에게 전달
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RoomEvent event = objectMapper.readValue(message.getBody(), RoomEvent.class);
+            roomTopicSender.deliver(event);
+
+            // 다른 노드에서 보낸 채팅 메시지는 최근 메시지 캐시에도 반영
+            if (!nodeId.equals(event.getOriginNodeId())
+                    && ChatMessage.MessageType.CHAT.name().equals(event.getEventType())) {
+                ChatMessage chatMessage = objectMapper.readValue(event.getPayload(), ChatMessage.class);
+                roomMessageCache.append(MessageResponse.from(chatMessage));
+            }
+        } catch (Exception e) {
+            log.error("채팅방 이벤트 전달 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.entity.Message;
+import com.talktoyou.backend.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// 클러스터 모드: Redis INCR로 모든 노드가 같은 채팅방 카운터를 공유
+// 키가 있을 때만 INCR하고, 없으면(최초 사용, Redis 재시작, 키 제거) DB의 마지막 순번으로 채운 뒤 INCR한다
+// 두 단계 모두 Lua 스크립트로 원자적으로 실행하므로 키가 없는 동안 어느 노드도 1부터 다시 발급하지 않는다
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.broker.mode", havingValue = "redis")
+public class RedisRoomSequencer implements RoomSequencer {
+
+    private static final String KEY_PREFIX = "room-seq:";
+
+    // 키가 있으면 INCR 결과, 없으면 0
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCR', KEYS[1]) end return 0",
+            Long.class);
+
+    // 키가 없으면 ARGV[1]로 채우고 INCR (다른 노드가 먼저 채웠으면 그 값을 이어서 사용)
+    private static final RedisScript<Long> SEED_AND_INCREMENT = RedisScript.of(
+            "redis.call('SET', KEYS[1], ARGV[1], 'NX') return redis.call('INCR', KEYS[1])",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MessageRepository messageRepository;
+
+    @Override
+    public long next(String roomId) {
+        List<String> keys = List.of(KEY_PREFIX + roomId);
+
+        Long seq = redisTemplate.execute(INCREMENT_IF_EXISTS, keys);
+        if (seq != null && seq > 0) {
+            return seq;
+        }
+
+        long lastSeq = messageRepository.findTopByRoomIdOrderBySeqDesc(roomId)
+                .map(Message::getSeq)
+                .orElse(0L);
+        seq = redisTemplate.execute(SEED_AND_INCREMENT, keys, String.valueOf(lastSeq));
+        if (seq == null) {
+            throw new RuntimeException("메시지 순번 발급에 실패했습니다.");
+        }
+        return seq;
+    }
+}
@@ -0,0 +1,59 @@
+package com.talktoyou.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talktoyou.backend.dto.ChatMessage;
+import com.talktoyou.backend.dto.RoomEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+// 채팅방 브로드캐스트 진입점 (/topic/room/{roomId})
+// 메시지를 JSON으로 한 번만 직렬화하여 RoomEventBus(단일 노드 또는 Redis)로 발행한다
+// (CBOR는 CBOR 구독자가 있는 노드에서만 원본 객체로 인코딩, RoomTopicSender 참고)
+@Service
+@RequiredArgsConstructor
+public class RoomBroadcaster {
+
+    public static final String ROOM_TOPIC_PREFIX = "/topic/room/";
+
+    private final RoomEventBus roomEventBus;
+    private final RoomTopicSender roomTopicSender;
+    private final ObjectMapper objectMapper;
+
+    // 채팅 메시지 브로드캐스트
+    public void broadcast(String roomId, ChatMessage chatMessage) {
+        publish(roomId, ROOM_TOPIC_PREFIX + roomId, String.valueOf(chatMessage.getType()), chatMessage);
+    }
+
+    // 임의의 이벤트를 채팅방 하위 destination으로 브로드캐스트
+    public void publish(String roomId, String destination, String eventType, Object payload) {
+        roomEventBus.publish(toEvent(roomId, destination, eventType, payload));
+    }
+
+    // 현재 노드의 구독자에게만 전달 (노드별 상태를 알리는 이벤트, redis 모드에서도 다른 노드로 보내지 않음)
+    public void publishLocal(String roomId, String destination, String eventType, Object payload) {
+        roomTopicSender.deliver(toEvent(roomId, destination, eventType, payload));
+    }
+
+    public boolean receivesAllEvents(String roomId) {
+        return roomEventBus.receivesAllEvents(roomId);
+    }
+
+    private RoomEvent toEvent(String roomId, String destination, String eventType, Object payload) {
+        try {
+            return RoomEvent.builder()
+                    .roomId(roomId)
+                    .destination(destination)
+                    .eventType(eventType)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .source(payload)
+                    .publishedAt(ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("브로드캐스트 메시지 직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.config.NodeIdentity;
+import com.talktoyou.backend.dto.UserSummary;
+import com.talktoyou.backend.dto.response.RoomPageResponse;
+import com.talktoyou.backend.dto.response.RoomResponse;
+import com.talktoyou.backend.entity.ChatRoom;
+import com.talktoyou.backend.repository.ChatRoomRepository;
+import com.talktoyou.backend.util.TrigramIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// 채팅방 목록 메모리 스냅샷 (로비 화면 폴링용)
+// 시작 시 한 번 스트리밍으로 적재하고, 이후 생성/참여/퇴장 시 해당 채팅방 항목만 갱신한다
+// 다른 노드의 변경은 Redis 채널로 전달받아 해당 채팅방만 다시 읽는다 (Redis 수신 스레드를 막지 않도록 전용 스레드에서 조회)
+// 채팅방 이름 검색용 트라이그램 색인도 같은 시점에 함께 갱신한다
+@Slf4j
+@Service
+public class RoomDirectory implements MessageListener {
+
+    private static final String UPDATE_CHANNEL = "room-directory:update";
+    private static final String SEPARATOR = "|";
+    private static final long LOAD_RETRY_SECONDS = 30;
+
+    private static final Comparator<RoomResponse> NEWEST_FIRST = Comparator
+            .comparing(RoomResponse::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(RoomResponse::getRoomId);
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final UserSummaryService userSummaryService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId;
+    private final int loadChunkSize;
+
+    // roomId -> 항목 (항목 교체만 하므로 읽기는 락 없이 수행)
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // 최신 생성 순 roomId (변경 시 배열을 새로 만들어 교체, this 락으로 보호)
+    private volatile String[] order = new String[0];
+    private volatile long orderVersion;
+    private volatile boolean loaded;
+
+    private final TrigramIndex nameIndex = new TrigramIndex();
+
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    // 시작 시 적재와 다른 노드 변경 반영을 순서대로 처리하는 스레드
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "room-directory-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RoomDirectory(
+            ChatRoomRepository chatRoomRepository,
+            UserSummaryService userSummaryService,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            NodeIdentity nodeIdentity,
+            @Value("${app.room.directory.load-chunk-size:500}") int loadChunkSize) {
+
+        this.chatRoomRepository = chatRoomRepository;
+        this.userSummaryService = userSummaryService;
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.loadChunkSize = loadChunkSize;
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(UPDATE_CHANNEL));
+    }
+
+    // 시작 시 백그라운드에서 적재 (적재 전에는 DB에서 조회, 실패하면 주기적으로 재시도)
+    @EventListener(ApplicationReadyEvent.class)
+    public void startLoading() {
+        refresher.execute(this::loadOrRetry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private void loadOrRetry() {
+        try {
+            load();
+        } catch (Exception e) {
+            log.error("채팅방 목록 적재 실패, {}초 후 재시도", LOAD_RETRY_SECONDS, e);
+            refresher.schedule(this::loadOrRetry, LOAD_RETRY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    // 전체 채팅방 적재 (생성자 정보는 청크 단위로 일괄 조회, 정렬은 마지막에 한 번)
+    private void load() {
+        long start = System.currentTimeMillis();
+        Map<String, RoomResponse> snapshot = new HashMap<>();
+        List<ChatRoom> chunk = new ArrayList<>(loadChunkSize);
+
+        try (Stream<ChatRoom> rooms = chatRoomRepository.streamByDeletedAtIsNull()) {
+            rooms.forEach(room -> {
+                chunk.add(room);
+                if (chunk.size() >= loadChunkSize) {
+                    resolveChunk(chunk, snapshot);
+                }
+            });
+        }
+        resolveChunk(chunk, snapshot);
+
+        synchronized (this) {
+            // 적재 중에 갱신된 채팅방은 갱신된 항목을 유지 (색인은 오래된 채팅방부터 추가)
+            snapshot.values().stream()
+                    .sorted(NEWEST_FIRST.reversed())
+                    .forEach(response -> {
+                        if (entries.putIfAbsent(response.getRoomId(),
+                                new Entry(response, versionSequence.incrementAndGet())) == null) {
+                            nameIndex.add(response.getRoomId(), response.getRoomName());
+                        }
+                    });
+            order = entries.values().stream()
+                    .map(Entry::response)
+                    .sorted(NEWEST_FIRST)
+                    .map(RoomResponse::getRoomId)
+                    .toArray(String[]::new);
+            orderVersion = versionSequence.incrementAndGet();
+            loaded = true;
+        }
+        log.info("채팅방 목록 적재 완료: rooms={}, {}ms", order.length, System.currentTimeMillis() - start);
+    }
+
+    // 채팅방 목록 한 페이지 조회 (최신 생성 순)
+    public RoomPageResponse getPage(int page, int size) {
+        if (!loaded) {
+            return loadPageFromDb(page, size);
+        }
+
+        String[] snapshot = order;
+        long version = orderVersion;
+        int from = (int) Math.min((long) page * size, snapshot.length);
+        int to = Math.min(from + size, snapshot.length);
+
+        List<RoomResponse> rooms = new ArrayList<>(to - from);
+        long hash = version;
+        for (int i = from; i < to; i++) {
+            Entry entry = entries.get(snapshot[i]);
+            if (entry != null) {
+                rooms.add(entry.response());
+                hash = 31 * hash + entry.version();
+            }
+        }
+
+        return RoomPageResponse.builder()
+                .rooms(rooms)
+                .page(page)
+                .size(size)
+                .totalCount(snapshot.length)
+                .hasNext(to < snapshot.length)
+                .version(Long.toHexString(hash) + "-" + page + "-" + size)
+                .build();
+    }
+
+    // 채팅방 이름 검색 (순위순, 최대 limit개)
+    public List<RoomResponse> search(String query, int limit) {
+        if (!loaded) {
+            return searchFromDb(query, limit);
+        }
+
+        List<RoomResponse> rooms = new ArrayList<>(limit);
+        for (String roomId : nameIndex.search(query, limit)) {
+            Entry entry = entries.get(roomId);
+            if (entry != null) {
+                rooms.add(entry.response());
+            }
+        }
+        return rooms;
+    }
+
+    // 채팅방 생성/변경 반영 (DB 저장 이후 호출)
+    public void update(ChatRoom room, UserSummary creator) {
+        apply(room, creator);
+        publishUpdate(room.getRoomId());
+    }
+
+    // 다른 노드에서 보낸 변경 메시지 처리
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(SEPARATOR);
+        if (index < 0) {
+            return;
+        }
+
+        String origin = body.substring(0, index);
+        String roomId = body.substring(index + 1);
+        if (nodeId.equals(origin)) {
+            return;
+        }
+
+        refresher.execute(() -> refresh(roomId));
+    }
+
+    // 다른 노드에서 변경된 채팅방을 DB에서 다시 읽어 반영
+    private void refresh(String roomId) {
+        try {
+            chatRoomRepository.findById(roomId).ifPresentOrElse(
+                    room -> apply(room, userSummaryService.get(room.getUserId()).orElse(null)),
+                    () -> remove(roomId));
+            log.debug("채팅방 목록 갱신: roomId={}", roomId);
+        } catch (Exception e) {
+            // 해당 채팅방의 다음 변경 때 다시 갱신됨
+            log.error("채팅방 목록 갱신 실패: roomId={}", roomId, e);
+        }
+    }
+
+    private void apply(ChatRoom room, UserSummary creator) {
+        if (room.isDeleted()) {
+            remove(room.getRoomId());
+            return;
+        }
+
+        Entry entry = new Entry(RoomResponse.from(room, creator), versionSequence.incrementAndGet());
+        if (entries.put(room.getRoomId(), entry) != null) {
+            return; // 기존 채팅방: 순서는 그대로, 항목만 교체
+        }
+
+        // 새 채팅방은 가장 최근에 생성된 것이므로 맨 앞에 추가
+        synchronized (this) {
+            String[] current = order;
+            String[] next = new String[current.length + 1];
+            next[0] = room.getRoomId();
+            System.arraycopy(current, 0, next, 1, current.length);
+            order = next;
+            orderVersion = versionSequence.incrementAndGet();
+            nameIndex.add(room.getRoomId(), room.getRoomName());
+        }
+    }
+
+    private void remove(String roomId) {
+        if (entries.remove(roomId) == null) {
+            return;
+        }
+        synchronized (this) {
+            order = Arrays.stream(order)
+                    .filter(id -> !id.equals(roomId))
+                    .toArray(String[]::new);
+            orderVersion = versionSequence.incrementAndGet();
+            nameIndex.remove(roomId);
+        }
+    }
+
+    private void resolveChunk(List<ChatRoom> chunk, Map<String, RoomResponse> snapshot) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Map<String, UserSummary> creators = userSummaryService.resolveAll(
+                chunk.stream().map(ChatRoom::getUserId).toList());
+        chunk.forEach(room -> snapshot.put(room.getRoomId(), RoomResponse.from(room, creators.get(room.getUserId()))));
+        chunk.clear();
+    }
+
+    // 적재 완료 전에는 해당 페이지만 DB에서 조회 (조건부 요청 미지원)
+    private RoomPageResponse loadPageFromDb(int page, int size) {
+        Slice<ChatRoom> slice = chatRoomRepository.findByDeletedAtIsNullOrderByCreatedAtDesc(PageRequest.of(page, size));
+        Map<String, UserSummary> creators = userSummaryService.resolveAll(
+                slice.getContent().stream().map(ChatRoom::getUserId).toList());
+
+        return RoomPageResponse.builder()
+                .rooms(slice.getContent().stream()
+                        .map(room -> RoomResponse.from(room, creators.get(room.getUserId())))
+                        .toList())
+                .page(page)
+                .size(size)
+                .totalCount((int) chatRoomRepository.countByDeletedAtIsNull())
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    // 적재 완료 전에는 DB 정규식 검색으로 대신한다
+    private List<RoomResponse> searchFromDb(String query, int limit) {
+        List<ChatRoom> rooms = chatRoomRepository.findByRoomNameContainingAndDeletedAtIsNullOrderByCreatedAtDesc(
+                query.trim(), PageRequest.of(0, limit)).getContent();
+        Map<String, UserSummary> creators = userSummaryService.resolveAll(
+                rooms.stream().map(ChatRoom::getUserId).toList());
+        return rooms.stream()
+                .map(room -> RoomResponse.from(room, creators.get(room.getUserId())))
+                .toList();
+    }
+
+    private void publishUpdate(String roomId) {
+        try {
+            redisTemplate.convertAndSend(UPDATE_CHANNEL, nodeId + SEPARATOR + roomId);
+        } catch (Exception e) {
+            // 다른 노드는 해당 채팅방의 다음 변경 때 갱신되므로 실패해도 요청은 계속 처리
+            log.error("채팅방 목록 변경 메시지 전송 실패: roomId={}", roomId, e);
+        }
+    }
+
+    private record Entry(RoomResponse response, long version) {
+    }
+}
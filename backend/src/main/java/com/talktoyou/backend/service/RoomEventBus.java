@@ -0,0 +1,14 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.dto.RoomEvent;
+
+// 채팅방 이벤트 전파 방식 (app.broker.mode로 선택)
+public interface RoomEventBus {
+
+    // 채팅방 구독자에게 이벤트 발행
+    void publish(RoomEvent event);
+
+    // 현재 노드가 해당 채팅방의 모든 이벤트를 수신하고 있는지 여부
+    // (false면 노드 로컬 캐시만으로는 최신 상태를 보장할 수 없음)
+    boolean receivesAllEvents(String roomId);
+}
@@ -0,0 +1,200 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.dto.RoomEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 바쁜 채팅방의 브로드캐스트 프레임 묶음 전송
+// 채팅방 토픽(/topic/room/{roomId})의 초당 이벤트 수가 임계값을 넘으면 짧은 시간(window) 동안 모았다가
+// JSON 배열 하나(event-type: BATCH)로 전달하고, 조용한 채팅방은 기존처럼 바로 전달한다
+@Slf4j
+@Component
+public class RoomFrameCoalescer {
+
+    public static final String BATCH_EVENT_TYPE = "BATCH";
+
+    private static final long RATE_WINDOW_MILLIS = 1000;
+    private static final long IDLE_EVICT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final int rateThreshold;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSizeSummary;
+
+    // destination -> 전송 상태
+    private final Map<String, TopicState> topics = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public RoomFrameCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${app.broadcast.coalesce.rate-threshold:20}") int rateThreshold,
+            @Value("${app.broadcast.coalesce.window:30}") long windowMillis,
+            @Value("${app.broadcast.coalesce.max-batch-size:100}") int maxBatchSize) {
+
+        this.rateThreshold = rateThreshold;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizeSummary = DistributionSummary.builder("chat.broadcast.batch.size")
+                .description("묶음 전송 한 번에 포함된 이벤트 수")
+                .register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-frame-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::evictIdleTopics,
+                IDLE_EVICT_MILLIS, IDLE_EVICT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    // 이벤트 전달 (바로 전달하거나 묶음에 추가), 실제 전송은 sender가 수행
+    public void submit(RoomEvent event, Consumer<RoomEvent> sender) {
+        if (!isRoomTopic(event)) {
+            sender.accept(event);
+            return;
+        }
+        topics.computeIfAbsent(event.getDestination(), TopicState::new).submit(event, sender);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        // 남아 있는 묶음은 바로 전달
+        topics.values().forEach(TopicState::flush);
+    }
+
+    // 채팅 메시지가 몰리는 채팅방 기본 토픽만 대상 (하위 경로 이벤트는 바로 전달)
+    private static boolean isRoomTopic(RoomEvent event) {
+        return (RoomBroadcaster.ROOM_TOPIC_PREFIX + event.getRoomId()).equals(event.getDestination());
+    }
+
+    private void evictIdleTopics() {
+        long now = System.currentTimeMillis();
+        topics.values().removeIf(state -> state.isIdleSince(now - IDLE_EVICT_MILLIS));
+    }
+
+    // destination별 이벤트 빈도와 대기 중인 묶음
+    // 전송도 락 안에서 수행하여 바로 전달과 묶음 전달의 순서가 뒤바뀌지 않도록 한다
+    private final class TopicState {
+
+        private final String destination;
+        private long rateWindowStart;
+        private int rateCount;
+        private long lastEventTime;
+
+        private List<RoomEvent> pending;
+        private Consumer<RoomEvent> pendingSender;
+
+        private TopicState(String destination) {
+            this.destination = destination;
+        }
+
+        synchronized void submit(RoomEvent event, Consumer<RoomEvent> sender) {
+            long now = System.currentTimeMillis();
+            lastEventTime = now;
+            if (now - rateWindowStart >= RATE_WINDOW_MILLIS) {
+                rateWindowStart = now;
+                rateCount = 0;
+            }
+            rateCount++;
+
+            // 조용한 채팅방: 대기 중인 묶음이 없으면 바로 전달
+            if (pending == null && rateCount <= rateThreshold) {
+                sender.accept(event);
+                return;
+            }
+
+            if (pending == null) {
+                pending = new ArrayList<>();
+                pendingSender = sender;
+                scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+            pending.add(event);
+
+            if (pending.size() >= maxBatchSize) {
+                flush();
+            }
+        }
+
+        synchronized void flush() {
+            if (pending == null) {
+                return;
+            }
+            List<RoomEvent> batch = pending;
+            Consumer<RoomEvent> sender = pendingSender;
+            pending = null;
+            pendingSender = null;
+
+            try {
+                if (batch.size() == 1) {
+                    sender.accept(batch.get(0));
+                    return;
+                }
+                sender.accept(toBatchEvent(batch));
+                batchSizeSummary.record(batch.size());
+            } catch (Exception e) {
+                log.error("묶음 전송 실패: destination={}, count={}", destination, batch.size(), e);
+            }
+        }
+
+        synchronized boolean isIdleSince(long threshold) {
+            return pending == null && lastEventTime < threshold;
+        }
+
+        // 이미 직렬화된 JSON payload를 이어 붙여 배열 하나로 만든다 (BATCH 이벤트는 원소를 펼쳐 넣음)
+        // 원본 객체도 같은 순서의 목록으로 모아 CBOR 구독자가 있으면 원소별로 인코딩할 수 있게 한다
+        private RoomEvent toBatchEvent(List<RoomEvent> batch) {
+            StringBuilder payload = new StringBuilder(batch.size() * 256).append('[');
+            List<Object> sources = new ArrayList<>(batch.size());
+            for (RoomEvent event : batch) {
+                boolean nested = BATCH_EVENT_TYPE.equals(event.getEventType());
+                if (sources != null && event.getSource() != null) {
+                    if (nested && event.getSource() instanceof Collection<?> elements) {
+                        sources.addAll(elements);
+                    } else {
+                        sources.add(event.getSource());
+                    }
+                } else {
+                    sources = null; // 다른 노드에서 받은 이벤트가 섞이면 JSON에서 다시 읽는다
+                }
+                String element = event.getPayload();
+                if (nested) {
+                    element = element.substring(1, element.length() - 1).trim();
+                    if (element.isEmpty()) {
+                        continue;
+                    }
+                }
+                if (payload.length() > 1) {
+                    payload.append(',');
+                }
+                payload.append(element);
+            }
+            payload.append(']');
+
+            RoomEvent first = batch.get(0);
+            return RoomEvent.builder()
+                    .roomId(first.getRoomId())
+                    .destination(destination)
+                    .eventType(BATCH_EVENT_TYPE)
+                    .originNodeId(first.getOriginNodeId())
+                    .publishedAt(first.getPublishedAt()) // 묶음에서 가장 오래 기다린 이벤트 기준
+                    .payload(payload.toString())
+                    .source(sources)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.talktoyou.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talktoyou.backend.config.NodeIdentity;
+import com.talktoyou.backend.repository.RoomMemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 채팅방 멤버십 메모리 인덱스 (roomId -> 참여 중인 userId 집합)
+// 채팅방별로 처음 조회될 때 DB에서 적재하고, 참여/퇴장 시 write-through로 갱신한다
+// 다른 노드의 변경은 Redis 채널로 전달받아 해당 채팅방 캐시를 무효화한다
+@Slf4j
+@Service
+public class RoomMembershipCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "room-membership:invalidate";
+    private static final String SEPARATOR = "|";
+
+    private final RoomMemberRepository roomMemberRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId;
+    private final Cache<String, Set<String>> members;
+
+    public RoomMembershipCache(
+            RoomMemberRepository roomMemberRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            NodeIdentity nodeIdentity,
+            @Value("${app.room.membership-cache.max-rooms:10000}") long maxRooms,
+            @Value("${app.room.membership-cache.ttl:600}") long ttlSeconds) {
+
+        this.roomMemberRepository = roomMemberRepository;
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.members = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds)) // 무효화 메시지 유실 대비
+                .build();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    // 특정 사용자가 특정 채팅방에 참여 중인지 확인
+    public boolean isMember(String userId, String roomId) {
+        if (userId == null || roomId == null) {
+            return false;
+        }
+        return members.get(roomId, this::loadMembers).contains(userId);
+    }
+
+    // 채팅방 참여 반영 (DB 저장 이후 호출)
+    public void onJoin(String roomId, String userId) {
+        // 적재 중인 채팅방이면 적재가 끝난 뒤에 반영된다 (같은 키의 compute는 직렬화됨)
+        members.asMap().computeIfPresent(roomId, (key, userIds) -> {
+            userIds.add(userId);
+            return userIds;
+        });
+        publishInvalidation(roomId);
+    }
+
+    // 채팅방 퇴장 반영 (DB 삭제 이후 호출)
+    public void onLeave(String roomId, String userId) {
+        members.asMap().computeIfPresent(roomId, (key, userIds) -> {
+            userIds.remove(userId);
+            return userIds;
+        });
+        publishInvalidation(roomId);
+    }
+
+    // 다른 노드에서 보낸 무효화 메시지 처리
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(SEPARATOR);
+        if (index < 0) {
+            return;
+        }
+
+        String origin = body.substring(0, index);
+        String roomId = body.substring(index + 1);
+        if (!nodeId.equals(origin)) {
+            members.invalidate(roomId);
+            log.debug("채팅방 멤버십 캐시 무효화: roomId={}", roomId);
+        }
+    }
+
+    private Set<String> loadMembers(String roomId) {
+        Set<String> userIds = ConcurrentHashMap.newKeySet();
+        roomMemberRepository.findByRoomIdOrderByJoinedAtAsc(roomId)
+                .forEach(member -> userIds.add(member.getUserId()));
+        return userIds;
+    }
+
+    private void publishInvalidation(String roomId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + SEPARATOR + roomId);
+        } catch (Exception e) {
+            // 다른 노드는 TTL이 지나면 다시 적재하므로 실패해도 요청은 계속 처리
+            log.error("채팅방 멤버십 무효화 메시지 전송 실패: roomId={}", roomId, e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.dto.response.MessageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 채팅방별 최근 메시지(hot tail)를 보관하는 메모리 캐시
+// 채팅방 수는 LRU로 제한하고, 방마다 최근 N개만 링 버퍼에 유지한다
+@Slf4j
+@Component
+public class RoomMessageCache {
+
+    private final int messagesPerRoom;
+    private final Map<String, RoomTail> rooms;
+
+    public RoomMessageCache(
+            @Value("${app.message.cache.messages-per-room:50}") int messagesPerRoom,
+            @Value("${app.message.cache.max-rooms:5000}") int maxRooms) {
+
+        this.messagesPerRoom = messagesPerRoom;
+        // accessOrder=true: 조회/추가된 방이 뒤로 이동, 가장 오래 사용되지 않은 방부터 제거
+        this.rooms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RoomTail> eldest) {
+                return size() > maxRooms;
+            }
+        };
+    }
+
+    // 새 메시지를 채팅방 캐시에 추가
+    public void append(MessageResponse message) {
+        tailOf(message.getRoomId()).add(message);
+    }
+
+    // 최근 메시지 목록 조회 (오래된 것부터)
+    // 캐시가 아직 DB 내용으로 채워지지 않았다면 loader로 한 번만 채운다
+    public List<MessageResponse> getRecent(String roomId, Supplier<List<MessageResponse>> loader) {
+        RoomTail tail;
+        synchronized (rooms) {
+            tail = rooms.get(roomId);
+        }
+
+        if (tail != null && tail.isComplete()) {
+            return tail.snapshot();
+        }
+
+        List<MessageResponse> loaded = loader.get();
+        tail = tailOf(roomId);
+        tail.seed(loaded);
+        log.debug("채팅방 메시지 캐시 적재: roomId={}, count={}", roomId, loaded.size());
+
+        return tail.snapshot();
+    }
+
+    // DB 조회 없이 캐시된 최근 메시지만 조회 (채워지지 않았으면 빈 목록)
+    public List<MessageResponse> peek(String roomId) {
+        RoomTail tail;
+        synchronized (rooms) {
+            tail = rooms.get(roomId);
+        }
+        return tail != null && tail.isComplete() ? tail.snapshot() : List.of();
+    }
+
+    // 채팅방별 최대 보관 메시지 수
+    public int getMessagesPerRoom() {
+        return messagesPerRoom;
+    }
+
+    // 채팅방 캐시 제거
+    public void evict(String roomId) {
+        synchronized (rooms) {
+            rooms.remove(roomId);
+        }
+    }
+
+    private RoomTail tailOf(String roomId) {
+        synchronized (rooms) {
+            return rooms.computeIfAbsent(roomId, key -> new RoomTail(messagesPerRoom));
+        }
+    }
+
+    // 최근 메시지 N개를 담는 링 버퍼
+    private static final class RoomTail {
+
+        private final MessageResponse[] buffer;
+        private int head;   // 가장 오래된 메시지 위치
+        private int size;
+        private boolean complete; // DB의 최근 메시지로 채워졌는지 여부
+
+        private RoomTail(int capacity) {
+            this.buffer = new MessageResponse[capacity];
+        }
+
+        synchronized void add(MessageResponse message) {
+            int tail = (head + size) % buffer.length;
+            buffer[tail] = message;
+            if (size < buffer.length) {
+                size++;
+            } else {
+                head = (head + 1) % buffer.length;
+            }
+        }
+
+        // DB에서 읽은 메시지와 그 사이 추가된 메시지를 합쳐 채운다
+        synchronized void seed(List<MessageResponse> loaded) {
+            if (complete) {
+                return;
+            }
+
+            Map<String, MessageResponse> merged = new LinkedHashMap<>();
+            loaded.forEach(message -> merged.put(message.getMessageId(), message));
+            snapshotUnsafe().forEach(message -> merged.put(message.getMessageId(), message));
+
+            List<MessageResponse> ordered = new ArrayList<>(merged.values());
+            ordered.sort(Comparator.comparing(MessageResponse::getCreatedAt));
+
+            head = 0;
+            size = 0;
+            int from = Math.max(0, ordered.size() - buffer.length);
+            for (int i = from; i < ordered.size(); i++) {
+                add(ordered.get(i));
+            }
+            complete = true;
+        }
+
+        synchronized boolean isComplete() {
+            return complete;
+        }
+
+        synchronized List<MessageResponse> snapshot() {
+            return snapshotUnsafe();
+        }
+
+        private List<MessageResponse> snapshotUnsafe() {
+            List<MessageResponse> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(buffer[(head + i) % buffer.length]);
+            }
+            return result;
+        }
+    }
+}
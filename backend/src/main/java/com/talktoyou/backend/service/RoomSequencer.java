@@ -0,0 +1,8 @@
+package com.talktoyou.backend.service;
+
+// 채팅방별 메시지 순번 발급 (app.broker.mode로 선택)
+// 순번은 채팅방 안에서 1부터 단조 증가하며, 클라이언트는 마지막으로 받은 순번으로 누락 여부를 판단한다
+public interface RoomSequencer {
+
+    long next(String roomId);
+}
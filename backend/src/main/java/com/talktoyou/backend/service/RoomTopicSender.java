@@ -0,0 +1,95 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.config.CborSubscriptionInterceptor;
+import com.talktoyou.backend.config.RoomSubscriptionTracker;
+import com.talktoyou.backend.dto.RoomEvent;
+import com.talktoyou.backend.util.CompactChatCodec;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+// 현재 노드에 연결된 채팅방 구독자에게 이벤트를 전달 (이미 직렬화된 JSON을 그대로 전송)
+// 바쁜 채팅방의 이벤트는 RoomFrameCoalescer가 묶어서 전달한다
+// CBOR는 이 노드에 해당 destination의 CBOR 구독이 있을 때만 프레임당 한 번 인코딩하여 함께 싣는다
+@Component
+public class RoomTopicSender {
+
+    // 프레임 종류를 나타내는 STOMP 헤더
+    public static final String EVENT_TYPE_HEADER = "event-type";
+
+    // CBOR 구독자에게 보낼 payload를 담는 메시지 헤더 (STOMP 프레임에는 포함되지 않음)
+    public static final String CBOR_PAYLOAD_HEADER = "cborPayload";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RoomFrameCoalescer roomFrameCoalescer;
+    private final RoomSubscriptionTracker subscriptionTracker;
+    private final CborSubscriptionInterceptor cborSubscriptions;
+    private final CompactChatCodec compactChatCodec;
+
+    private final DistributionSummary fanOutSummary;
+    private final Timer broadcastLatencyTimer;
+
+    public RoomTopicSender(SimpMessagingTemplate messagingTemplate,
+                           RoomFrameCoalescer roomFrameCoalescer,
+                           RoomSubscriptionTracker subscriptionTracker,
+                           CborSubscriptionInterceptor cborSubscriptions,
+                           CompactChatCodec compactChatCodec,
+                           MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.roomFrameCoalescer = roomFrameCoalescer;
+        this.subscriptionTracker = subscriptionTracker;
+        this.cborSubscriptions = cborSubscriptions;
+        this.compactChatCodec = compactChatCodec;
+        this.fanOutSummary = DistributionSummary.builder("chat.broadcast.fanout")
+                .description("프레임 하나를 전달받는 현재 노드의 채팅방 구독 수")
+                .register(meterRegistry);
+        // 발행부터 현재 노드 구독자에게 넘기기까지 (Redis 전달, 묶음 대기, 브로커 분배 포함)
+        this.broadcastLatencyTimer = Timer.builder("chat.broadcast.latency")
+                .description("채팅방 이벤트 발행부터 구독자 전달까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    public void deliver(RoomEvent event) {
+        roomFrameCoalescer.submit(event, this::send);
+    }
+
+    private void send(RoomEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setNativeHeader(EVENT_TYPE_HEADER, event.getEventType());
+        if (cborSubscriptions.hasSubscribers(event.getDestination())) {
+            accessor.setHeader(CBOR_PAYLOAD_HEADER, encodeCbor(event));
+        }
+        accessor.setLeaveMutable(true);
+
+        byte[] body = event.getPayload().getBytes(StandardCharsets.UTF_8);
+        messagingTemplate.send(event.getDestination(), MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+
+        fanOutSummary.record(subscriptionTracker.getLocalSubscriberCount(event.getRoomId()));
+        if (event.getPublishedAt() != null) {
+            long latencyMicros = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()) - event.getPublishedAt();
+            // 다른 노드에서 발행한 이벤트는 시계 차이로 음수가 될 수 있다
+            broadcastLatencyTimer.record(Math.max(0, latencyMicros), TimeUnit.MICROSECONDS);
+        }
+    }
+
+    // 현재 노드에서 발행한 이벤트는 원본 객체로, 다른 노드에서 받은 이벤트는 JSON을 읽어서 인코딩
+    private byte[] encodeCbor(RoomEvent event) {
+        if (event.getSource() != null) {
+            return compactChatCodec.encodeEvent(event.getSource());
+        }
+        boolean batch = RoomFrameCoalescer.BATCH_EVENT_TYPE.equals(event.getEventType());
+        return compactChatCodec.encodeJson(event.getPayload(), event.getEventType(), batch);
+    }
+}
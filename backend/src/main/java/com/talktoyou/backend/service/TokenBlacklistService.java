@@ -1,29 +1,102 @@
 package com.talktoyou.backend.service;
 
-import lombok.RequiredArgsConstructor;
+import com.talktoyou.backend.config.NodeIdentity;
+import com.talktoyou.backend.util.BloomFilter;
+import com.talktoyou.backend.util.TokenDigest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+// 토큰 블랙리스트 (Redis) + 노드 로컬 near-cache
+// 블룸 필터에 없는 토큰은 Redis 조회 없이 "폐기되지 않음"으로 판단하고,
+// 최근 폐기된 토큰은 로컬 집합에서 바로 "폐기됨"으로 판단한다
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MessageListener {
 
-    private final RedisTemplate<String, String> redisTemplate;
     private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final String REVOCATION_CHANNEL = "token-blacklist:revoked";
+    private static final String SEPARATOR = "|";
+
+    // Redis에 연결할 수 없을 때의 판단 기준
+    public enum FailMode {
+        OPEN,   // 폐기되지 않은 것으로 간주 (가용성 우선)
+        CLOSED  // 폐기된 것으로 간주 (보안 우선)
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final FailMode failMode;
+
+    // 최근 폐기된 토큰 다이제스트 -> 토큰 만료 시각 (밀리초)
+    private final Map<String, Long> recentRevocations = new ConcurrentHashMap<>();
+
+    // 블랙리스트 확인 시간 (판단한 위치별: local, bloom, redis, error)
+    private final Timer localLookupTimer;
+    private final Timer bloomLookupTimer;
+    private final Timer redisLookupTimer;
+    private final Timer errorLookupTimer;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile boolean synced = false; // Redis의 블랙리스트 전체가 블룸 필터에 반영되었는지 여부
+
+    public TokenBlacklistService(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            NodeIdentity nodeIdentity,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.blacklist.expected-revocations:100000}") int expectedInsertions,
+            @Value("${app.auth.blacklist.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${app.auth.blacklist.fail-mode:closed}") String failMode) {
+
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.failMode = FailMode.valueOf(failMode.toUpperCase());
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.localLookupTimer = lookupTimer(meterRegistry, "local");
+        this.bloomLookupTimer = lookupTimer(meterRegistry, "bloom");
+        this.redisLookupTimer = lookupTimer(meterRegistry, "redis");
+        this.errorLookupTimer = lookupTimer(meterRegistry, "error");
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
 
     // 토큰을 블랙리스트에 추가
     public void addToBlacklist(String token, Date expirationDate) {
+        String digest = TokenDigest.sha256(token);
+        long expiresAt = expirationDate.getTime();
+
+        // 현재 노드에는 즉시 반영
+        remember(digest, expiresAt);
+
         try {
             String key = BLACKLIST_PREFIX + token;
-            long ttl = expirationDate.getTime() - System.currentTimeMillis();
+            long ttl = expiresAt - System.currentTimeMillis();
 
             if (ttl > 0) {
                 redisTemplate.opsForValue().set(key, "blacklisted", ttl, TimeUnit.MILLISECONDS);
+                // 다른 노드의 near-cache에 전파
+                redisTemplate.convertAndSend(REVOCATION_CHANNEL, nodeId + SEPARATOR + digest + SEPARATOR + expiresAt);
                 log.debug("토큰이 블랙리스트에 추가되었습니다: {}", token.substring(0, Math.min(20, token.length())));
             }
         } catch (Exception e) {
@@ -33,17 +106,39 @@ public class TokenBlacklistService {
 
     // 토큰이 블랙리스트에 있는지 확인
     public boolean isBlacklisted(String token) {
+        long start = System.nanoTime();
+        String digest = TokenDigest.sha256(token);
+
+        // 최근 폐기된 토큰은 로컬에서 바로 판단
+        Long expiresAt = recentRevocations.get(digest);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            localLookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return true;
+        }
+
+        // 블룸 필터에 없으면 폐기되지 않은 토큰 (네트워크 조회 없음)
+        if (synced && !bloomFilter.mightContain(digest)) {
+            bloomLookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return false;
+        }
+
+        // 블룸 필터 양성(오탐 가능) 또는 동기화 전: Redis에서 확인
         try {
             String key = BLACKLIST_PREFIX + token;
-            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            boolean blacklisted = Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            redisLookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return blacklisted;
         } catch (Exception e) {
-            log.error("블랙리스트 확인 중 오류 발생", e);
-            return false; // Redis 연결 오류 시 false 반환
+            errorLookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.error("블랙리스트 확인 중 오류 발생 (failMode={})", failMode, e);
+            return failMode == FailMode.CLOSED;
         }
     }
 
     // 블랙리스트에서 토큰 제거 (필요한 경우)
     public void removeFromBlacklist(String token) {
+        // 블룸 필터에서는 제거할 수 없으므로 다음 재구성 시 반영됨 (그 전까지는 Redis 확인)
+        recentRevocations.remove(TokenDigest.sha256(token));
         try {
             String key = BLACKLIST_PREFIX + token;
             redisTemplate.delete(key);
@@ -52,4 +147,58 @@ public class TokenBlacklistService {
             log.error("블랙리스트에서 토큰 제거 중 오류 발생", e);
         }
     }
-}
\ No newline at end of file
+
+    // 다른 노드에서 폐기한 토큰 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        remember(parts[1], Long.parseLong(parts[2]));
+    }
+
+    // Redis의 블랙리스트로 블룸 필터를 주기적으로 재구성 (만료된 토큰 정리, 유실된 전파 보정)
+    @Scheduled(fixedDelayString = "${app.auth.blacklist.rebuild-interval:300000}")
+    public void rebuild() {
+        try {
+            BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+            ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(1000).build();
+
+            int count = 0;
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    String token = cursor.next().substring(BLACKLIST_PREFIX.length());
+                    rebuilt.put(TokenDigest.sha256(token));
+                    count++;
+                }
+            }
+
+            // 만료된 로컬 항목 정리 후, 재구성 중에 들어온 항목까지 포함
+            long now = System.currentTimeMillis();
+            recentRevocations.values().removeIf(expiresAt -> expiresAt <= now);
+            recentRevocations.keySet().forEach(rebuilt::put);
+
+            bloomFilter = rebuilt;
+            synced = true;
+            log.debug("블랙리스트 블룸 필터 재구성 완료: count={}", count);
+        } catch (Exception e) {
+            log.error("블랙리스트 블룸 필터 재구성 실패 (기존 필터 유지)", e);
+        }
+    }
+
+    private void remember(String digest, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        recentRevocations.put(digest, expiresAt);
+        bloomFilter.put(digest);
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("auth.blacklist.lookup")
+                .description("토큰 블랙리스트 확인 시간")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,151 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.dto.TypingEvent;
+import com.talktoyou.backend.dto.UserSummary;
+import com.talktoyou.backend.util.TimerWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 입력 중 표시 (저장하지 않음)
+// 같은 사용자의 TYPING 신호는 debounce 간격 안에서 무시하고, 마지막 신호 후 ttl이 지나면 타이머 휠로 만료시킨다
+// 채팅방마다 변경이 있을 때만 주기적으로 "입력 중인 사용자 목록" 하나를 브로드캐스트한다
+// 목록은 노드별로 모으므로 현재 노드의 구독자에게만 보낸다 (redis 모드에서 노드마다 다른 목록이 서로 덮어쓰지 않도록,
+// 대신 다른 노드에 연결된 사용자의 입력 중 상태는 표시되지 않음)
+@Slf4j
+@Service
+public class TypingIndicatorService {
+
+    public static final String TYPING_EVENT_TYPE = "TYPING_STATE";
+
+    private static final long TICK_MILLIS = 100;
+    private static final int WHEEL_SLOTS = 128;
+
+    private final RoomBroadcaster roomBroadcaster;
+    private final long ttlMillis;
+    private final long debounceMillis;
+
+    // 마지막으로 반영한 신호 시각 (debounce 판단, 락 없이 조회)
+    private final Map<TypingKey, Long> lastAccepted = new ConcurrentHashMap<>();
+
+    // 아래 상태는 this 락으로 보호
+    private final TimerWheel<TypingKey> expirations;
+    private final Map<String, Map<String, UserSummary>> typingByRoom = new HashMap<>();
+    private final Set<String> dirtyRooms = new HashSet<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    public TypingIndicatorService(
+            RoomBroadcaster roomBroadcaster,
+            @Value("${app.typing.ttl:3000}") long ttlMillis,
+            @Value("${app.typing.debounce:1000}") long debounceMillis,
+            @Value("${app.typing.broadcast-interval:500}") long broadcastIntervalMillis) {
+
+        this.roomBroadcaster = roomBroadcaster;
+        this.ttlMillis = ttlMillis;
+        this.debounceMillis = debounceMillis;
+        this.expirations = new TimerWheel<>(TICK_MILLIS, WHEEL_SLOTS, System.currentTimeMillis());
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "typing-indicator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleAtFixedRate(this::tick,
+                broadcastIntervalMillis, broadcastIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 입력 중 신호
+    public void typing(String roomId, UserSummary user) {
+        TypingKey key = new TypingKey(roomId, user.getUserId());
+        long now = System.currentTimeMillis();
+
+        Long last = lastAccepted.get(key);
+        if (last != null && now - last < debounceMillis) {
+            return; // 키 입력마다 오는 신호는 무시
+        }
+        lastAccepted.put(key, now);
+
+        synchronized (this) {
+            expirations.schedule(key, now + ttlMillis);
+            UserSummary previous = typingByRoom
+                    .computeIfAbsent(roomId, id -> new LinkedHashMap<>())
+                    .putIfAbsent(user.getUserId(), user);
+            if (previous == null) {
+                dirtyRooms.add(roomId);
+            }
+        }
+    }
+
+    // 입력 종료 (메시지 전송 등)
+    public void stopTyping(String roomId, String userId) {
+        TypingKey key = new TypingKey(roomId, userId);
+        if (lastAccepted.remove(key) == null) {
+            return;
+        }
+        synchronized (this) {
+            expirations.cancel(key);
+            remove(key);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // 만료 처리 후 변경된 채팅방의 상태 브로드캐스트
+    private void tick() {
+        List<TypingEvent> events = new ArrayList<>();
+        synchronized (this) {
+            for (TypingKey key : expirations.advance(System.currentTimeMillis())) {
+                lastAccepted.remove(key);
+                remove(key);
+            }
+
+            for (String roomId : dirtyRooms) {
+                Map<String, UserSummary> typing = typingByRoom.get(roomId);
+                events.add(TypingEvent.builder()
+                        .roomId(roomId)
+                        .users(typing == null ? List.of() : List.copyOf(typing.values()))
+                        .build());
+            }
+            dirtyRooms.clear();
+        }
+
+        for (TypingEvent event : events) {
+            try {
+                roomBroadcaster.publishLocal(event.getRoomId(),
+                        RoomBroadcaster.ROOM_TOPIC_PREFIX + event.getRoomId() + "/typing", TYPING_EVENT_TYPE, event);
+            } catch (Exception e) {
+                log.error("입력 중 상태 전송 실패: roomId={}", event.getRoomId(), e);
+            }
+        }
+    }
+
+    private void remove(TypingKey key) {
+        Map<String, UserSummary> typing = typingByRoom.get(key.roomId());
+        if (typing != null && typing.remove(key.userId()) != null) {
+            dirtyRooms.add(key.roomId());
+            if (typing.isEmpty()) {
+                typingByRoom.remove(key.roomId());
+            }
+        }
+    }
+
+    private record TypingKey(String roomId, String userId) {
+    }
+}
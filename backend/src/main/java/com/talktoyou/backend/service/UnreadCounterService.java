@@ -0,0 +1,146 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.dto.response.UnreadCountResponse;
+import com.talktoyou.backend.entity.Message;
+import com.talktoyou.backend.entity.RoomMember;
+import com.talktoyou.backend.repository.RoomMemberRepository;
+import lombok.RequiredArgsConstructor;
+import com.mongodb.client.result.UpdateResult;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 채팅방 멤버별 안 읽은 메시지 수 관리
+// 메시지가 저장되면 채팅방 단위로 모아 읽음 커서 이후인 멤버의 unread_count를 올리고(보낸 사람은 자기 메시지만큼 되돌림),
+// 읽음 처리 시 커서를 옮기고 커서 이후 메시지 수로 다시 계산한다. 조회는 멤버십 문서만 읽으므로 채팅방별 count 쿼리가 필요 없다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCounterService {
+
+    // 읽음 처리 시 다시 세는 최대 메시지 수 (넘으면 이 값으로 기록, 이후 저장분은 계속 더해짐)
+    private static final int RECOUNT_LIMIT = 999;
+    // 다시 세는 동안 새 메시지가 반영되면 재시도하는 횟수
+    private static final int RECOUNT_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final RoomMemberRepository roomMemberRepository;
+    private final RoomMembershipCache roomMembershipCache;
+
+    // 저장이 끝난 메시지 반영 (일괄 저장 한 번당 bulk write 한 번)
+    // 읽음 커서가 이미 지난 메시지는 세지 않는다 (write-behind 저장 전에 읽음 처리한 멤버)
+    public void onPersisted(Collection<Message> messages) {
+        Map<String, List<String>> roomMessageIds = new HashMap<>();
+        Map<String, Map<String, List<String>>> senderMessageIds = new HashMap<>();
+        for (Message message : messages) {
+            roomMessageIds.computeIfAbsent(message.getRoomId(), key -> new ArrayList<>())
+                    .add(message.getMessageId());
+            senderMessageIds.computeIfAbsent(message.getRoomId(), key -> new HashMap<>())
+                    .computeIfAbsent(message.getUserId(), key -> new ArrayList<>())
+                    .add(message.getMessageId());
+        }
+        if (roomMessageIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RoomMember.class);
+            roomMessageIds.forEach((roomId, messageIds) -> incrementByCursor(bulk,
+                    Criteria.where("roomId").is(roomId), messageIds, 1));
+            // 보낸 사람은 자기 메시지만큼 되돌림 (같은 커서 조건)
+            senderMessageIds.forEach((roomId, senders) -> senders.forEach((userId, messageIds) ->
+                    incrementByCursor(bulk, Criteria.where("roomId").is(roomId).and("userId").is(userId),
+                            messageIds, -1)));
+            bulk.execute();
+        } catch (Exception e) {
+            // 안 읽은 수는 다음 읽음 처리 때 다시 계산되므로 메시지 저장 흐름은 계속 진행
+            log.error("안 읽은 메시지 수 갱신 실패: rooms={}", roomMessageIds.keySet(), e);
+        }
+    }
+
+    // 메시지 ID를 오름차순으로 나눈 커서 구간마다 update 하나: 커서가 [이전 ID, 이 ID) 구간이면 이 ID부터 끝까지의 수만큼 더함
+    // (커서가 없으면 첫 구간, 마지막 ID 이상이면 해당 없음) 멤버 문서마다 한 번만 갱신된다
+    private static void incrementByCursor(BulkOperations bulk, Criteria target, List<String> messageIds, int sign) {
+        List<String> sorted = messageIds.stream().sorted().toList();
+        for (int i = 0; i < sorted.size(); i++) {
+            Criteria cursor = i == 0
+                    ? new Criteria().orOperator(
+                            Criteria.where("lastReadMessageId").is(null),
+                            Criteria.where("lastReadMessageId").lt(sorted.get(i)))
+                    : Criteria.where("lastReadMessageId").gte(sorted.get(i - 1)).lt(sorted.get(i));
+            bulk.updateMulti(Query.query(new Criteria().andOperator(target, cursor)),
+                    new Update().inc("unreadCount", sign * (sorted.size() - i)));
+        }
+    }
+
+    // 읽음 처리 (messageId가 없으면 안 읽은 수만 초기화)
+    public void markRead(String roomId, String userId, String messageId) {
+        // 채팅방 참여 여부 확인
+        if (!roomMembershipCache.isMember(userId, roomId)) {
+            throw new RuntimeException("채팅방에 참여하지 않은 사용자입니다.");
+        }
+
+        if (messageId == null) {
+            roomMemberRepository.markRead(userId, roomId, LocalDateTime.now());
+            return;
+        }
+        if (!ObjectId.isValid(messageId)) {
+            throw new RuntimeException("유효하지 않은 메시지 ID입니다.");
+        }
+
+        // 커서는 앞으로만 이동 (이미 더 뒤의 메시지까지 읽었으면 그대로 두고 안 읽은 수만 다시 계산)
+        roomMemberRepository.markReadUpTo(userId, roomId, new ObjectId(messageId).toHexString(), LocalDateTime.now());
+        recountUnread(roomId, userId);
+    }
+
+    // 커서 이후 저장된 다른 사람의 메시지 수로 안 읽은 수를 맞춘다 ((room_id, _id) 범위 count, 최대 RECOUNT_LIMIT)
+    // 세는 동안 메시지 저장으로 unread_count가 바뀌었으면 덮어쓰지 않고 다시 센다
+    private void recountUnread(String roomId, String userId) {
+        for (int attempt = 0; attempt < RECOUNT_ATTEMPTS; attempt++) {
+            RoomMember member = roomMemberRepository.findByUserIdAndRoomId(userId, roomId).orElse(null);
+            if (member == null || member.getLastReadMessageId() == null) {
+                return;
+            }
+
+            Query unread = Query.query(Criteria.where("roomId").is(roomId)
+                            .and("messageId").gt(new ObjectId(member.getLastReadMessageId()))
+                            .and("userId").ne(userId))
+                    .limit(RECOUNT_LIMIT);
+            long count = mongoTemplate.count(unread, Message.class);
+
+            UpdateResult result = mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("memberId").is(member.getMemberId())
+                            .and("unreadCount").is(member.getUnreadCount())),
+                    new Update().set("unreadCount", count),
+                    RoomMember.class);
+            if (result.getMatchedCount() > 0) {
+                return;
+            }
+        }
+        log.debug("안 읽은 메시지 수 재계산 중단 (동시 갱신): roomId={}, userId={}", roomId, userId);
+    }
+
+    // 참여 중인 모든 채팅방의 안 읽은 수 (멤버십 조회 한 번)
+    public List<UnreadCountResponse> getUnreadCounts(String userId) {
+        return roomMemberRepository.findByUserIdOrderByJoinedAtDesc(userId).stream()
+                .map(member -> UnreadCountResponse.builder()
+                        .roomId(member.getRoomId())
+                        .unreadCount(Math.max(0, member.getUnreadCount()))
+                        .lastReadMessageId(member.getLastReadMessageId())
+                        .lastReadAt(member.getLastReadAt())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.talktoyou.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.talktoyou.backend.dto.UserSummary;
+import com.talktoyou.backend.entity.User;
+import com.talktoyou.backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 사용자 요약 정보 일괄 조회 (N+1 조회 방지)
+// 캐시에 없는 사용자만 $in 쿼리 한 번으로 가져온다
+@Slf4j
+@Service
+public class UserSummaryService {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserSummary> cache;
+
+    public UserSummaryService(
+            UserRepository userRepository,
+            @Value("${app.user.cache.max-size:10000}") long maxSize,
+            @Value("${app.user.cache.ttl:600}") long ttlSeconds) {
+
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // 단일 사용자 조회
+    public Optional<UserSummary> get(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(resolveAll(List.of(userId)).get(userId));
+    }
+
+    // 여러 사용자 일괄 조회 (존재하지 않는 사용자는 결과에서 제외)
+    public Map<String, UserSummary> resolveAll(Collection<String> userIds) {
+        Set<String> distinctIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<String, UserSummary> result = new HashMap<>(cache.getAllPresent(distinctIds));
+        if (result.size() == distinctIds.size()) {
+            return result;
+        }
+
+        List<String> missingIds = distinctIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .toList();
+
+        for (User user : userRepository.findAllById(missingIds)) {
+            UserSummary summary = UserSummary.from(user);
+            cache.put(summary.getUserId(), summary);
+            result.put(summary.getUserId(), summary);
+        }
+
+        log.debug("사용자 일괄 조회: requested={}, loaded={}", distinctIds.size(), missingIds.size());
+        return result;
+    }
+
+    // 사용자 정보 변경 시 캐시 무효화
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,162 @@
+package com.talktoyou.backend.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.talktoyou.backend.dto.ChatMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+// ChatMessage의 압축 바이너리 인코딩 (CBOR)
+// 짧은 필드 키, enum은 ordinal, 시각은 epoch millis(서버 기본 시간대 기준)로 기록한다
+@Component
+public class CompactChatCodec {
+
+    public static final MimeType CBOR = new MimeType("application", "cbor");
+
+    private static final TypeReference<List<ChatMessage>> CHAT_MESSAGE_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+
+    public CompactChatCodec(ObjectMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = CBORMapper.builder()
+                .addMixIn(ChatMessage.class, ChatMessageMixin.class)
+                .enable(SerializationFeature.WRITE_ENUMS_USING_INDEX)
+                .build();
+    }
+
+    public byte[] encode(ChatMessage message) {
+        try {
+            return cborMapper.writeValueAsBytes(message);
+        } catch (IOException e) {
+            throw new RuntimeException("CBOR 인코딩에 실패했습니다.", e);
+        }
+    }
+
+    public ChatMessage decode(byte[] bytes) {
+        try {
+            return cborMapper.readValue(bytes, ChatMessage.class);
+        } catch (IOException e) {
+            throw new RuntimeException("CBOR 디코딩에 실패했습니다.", e);
+        }
+    }
+
+    // 브로드캐스트 payload를 CBOR로 인코딩 (CBOR 구독자가 있을 때만 프레임당 한 번)
+    // ChatMessage는 압축 인코딩, 목록(BATCH)은 원소마다 같은 규칙으로 인코딩, 그 외 이벤트는 JSON과 같은 구조로 옮긴다
+    public byte[] encodeEvent(Object payload) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            try (JsonGenerator generator = cborMapper.createGenerator(out)) {
+                writeEvent(generator, payload);
+            }
+            return out.toByteArray();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new RuntimeException("CBOR 인코딩에 실패했습니다.", e);
+        }
+    }
+
+    // 다른 노드에서 JSON으로만 전달된 브로드캐스트를 CBOR로 인코딩 (원본 객체로 되돌린 뒤 encodeEvent와 같은 형식으로)
+    // batch이면 ChatMessage 배열, eventType이 ChatMessage 종류(CHAT/JOIN/LEAVE...)면 ChatMessage로 읽는다
+    public byte[] encodeJson(String json, String eventType, boolean batch) {
+        try {
+            Object payload;
+            if (batch) {
+                payload = jsonMapper.readValue(json, CHAT_MESSAGE_LIST);
+            } else if (isChatMessageEvent(eventType)) {
+                payload = jsonMapper.readValue(json, ChatMessage.class);
+            } else {
+                payload = jsonMapper.readTree(json);
+            }
+            return encodeEvent(payload);
+        } catch (IOException e) {
+            throw new RuntimeException("CBOR 인코딩에 실패했습니다.", e);
+        }
+    }
+
+    private static boolean isChatMessageEvent(String eventType) {
+        return eventType != null && Arrays.stream(ChatMessage.MessageType.values())
+                .anyMatch(type -> type.name().equals(eventType));
+    }
+
+    private void writeEvent(JsonGenerator generator, Object payload) throws IOException {
+        if (payload instanceof Collection<?> elements) {
+            generator.writeStartArray();
+            for (Object element : elements) {
+                writeEvent(generator, element);
+            }
+            generator.writeEndArray();
+        } else if (payload instanceof ChatMessage || payload instanceof JsonNode) {
+            cborMapper.writeValue(generator, payload);
+        } else {
+            cborMapper.writeValue(generator, jsonMapper.valueToTree(payload));
+        }
+    }
+
+    // 필드 키 축약 (ChatMessage 필드명과 일치해야 함)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    abstract static class ChatMessageMixin {
+
+        @JsonProperty("t")
+        ChatMessage.MessageType type;
+
+        @JsonProperty("i")
+        String messageId;
+
+        @JsonProperty("r")
+        String roomId;
+
+        @JsonProperty("s")
+        Long seq;
+
+        @JsonProperty("u")
+        String userId;
+
+        @JsonProperty("n")
+        String userName;
+
+        @JsonProperty("c")
+        String content;
+
+        @JsonProperty("ts")
+        @JsonSerialize(using = EpochMillisSerializer.class)
+        @JsonDeserialize(using = EpochMillisDeserializer.class)
+        LocalDateTime timestamp;
+    }
+
+    static class EpochMillisSerializer extends JsonSerializer<LocalDateTime> {
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+    static class EpochMillisDeserializer extends JsonDeserializer<LocalDateTime> {
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneId.systemDefault());
+        }
+    }
+}
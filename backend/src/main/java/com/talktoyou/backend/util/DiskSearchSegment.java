@@ -0,0 +1,227 @@
+package com.talktoyou.backend.util;
+
+import lombok.Getter;
+import org.bson.types.ObjectId;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// 디스크에 기록된 불변 검색 세그먼트 (파일 전체를 메모리 맵으로 읽음)
+// 단어 사전과 채팅방 목록만 힙에 두고, 문서 표와 포스팅은 필요할 때 맵에서 읽는다
+//
+// 파일 구성: 헤더(magic, version, 문서 수, 채팅방 수, 단어 수, 최대 메시지 ID)
+//          채팅방 ID 목록 / 문서 표(메시지 ID 12바이트 + 채팅방 번호) / 단어별 포스팅(정렬된 단어 순)
+public final class DiskSearchSegment implements SearchSegment {
+
+    private static final int MAGIC = 0x54545953; // "TTYS"
+    private static final int VERSION = 1;
+    private static final int ID_BYTES = 12;
+    private static final int DOC_BYTES = ID_BYTES + Integer.BYTES;
+
+    @Getter
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int docCount;
+    private final int docsOffset;
+    private final List<String> rooms;
+    private final Map<String, Integer> roomIndex;
+    private final Map<String, Long> dictionary; // 단어 -> (포스팅 위치 << 32 | 개수)
+    private final String maxMessageId;
+
+    private DiskSearchSegment(Path file, MappedByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+
+        ByteBuffer in = buffer.duplicate();
+        if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+            throw new IllegalStateException("검색 세그먼트 형식이 올바르지 않습니다: " + file);
+        }
+        this.docCount = in.getInt();
+        int roomCount = in.getInt();
+        int termCount = in.getInt();
+        byte[] maxId = new byte[ID_BYTES];
+        in.get(maxId);
+        this.maxMessageId = new ObjectId(maxId).toHexString();
+
+        this.rooms = new ArrayList<>(roomCount);
+        this.roomIndex = new HashMap<>(roomCount * 2);
+        for (int i = 0; i < roomCount; i++) {
+            String roomId = readString(in);
+            rooms.add(roomId);
+            roomIndex.put(roomId, i);
+        }
+
+        this.docsOffset = in.position();
+        in.position(docsOffset + docCount * DOC_BYTES);
+
+        this.dictionary = new HashMap<>(termCount * 2);
+        for (int i = 0; i < termCount; i++) {
+            String term = readString(in);
+            int count = in.getInt();
+            dictionary.put(term, ((long) in.position() << 32) | count);
+            in.position(in.position() + count * Integer.BYTES);
+        }
+    }
+
+    public static DiskSearchSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new DiskSearchSegment(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    // 여러 세그먼트를 순서대로 이어 붙여 새 세그먼트 파일로 기록 (임시 파일에 쓴 뒤 이름 변경)
+    // 메모리 세그먼트를 디스크로 내릴 때와 디스크 세그먼트를 합칠 때 모두 사용한다
+    public static DiskSearchSegment write(Path file, List<? extends SearchSegment> sources) throws IOException {
+        List<String> rooms = new ArrayList<>();
+        Map<String, Integer> roomIndex = new HashMap<>();
+        int[][] roomMappings = new int[sources.size()][];
+        int[] docBases = new int[sources.size()];
+        TreeSet<String> terms = new TreeSet<>();
+        String maxMessageId = null;
+        int docCount = 0;
+
+        for (int s = 0; s < sources.size(); s++) {
+            SearchSegment source = sources.get(s);
+            List<String> sourceRooms = source.rooms();
+            roomMappings[s] = new int[sourceRooms.size()];
+            for (int r = 0; r < sourceRooms.size(); r++) {
+                roomMappings[s][r] = roomIndex.computeIfAbsent(sourceRooms.get(r), key -> {
+                    rooms.add(key);
+                    return rooms.size() - 1;
+                });
+            }
+            docBases[s] = docCount;
+            docCount += source.docCount();
+            terms.addAll(source.terms());
+            String sourceMax = source.maxMessageId();
+            if (sourceMax != null && (maxMessageId == null || sourceMax.compareTo(maxMessageId) > 0)) {
+                maxMessageId = sourceMax;
+            }
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(docCount);
+            out.writeInt(rooms.size());
+            out.writeInt(terms.size());
+            out.write(new ObjectId(maxMessageId).toByteArray());
+
+            for (String roomId : rooms) {
+                writeString(out, roomId);
+            }
+
+            for (int s = 0; s < sources.size(); s++) {
+                SearchSegment source = sources.get(s);
+                for (int doc = 0; doc < source.docCount(); doc++) {
+                    out.write(new ObjectId(source.messageId(doc)).toByteArray());
+                    out.writeInt(roomMappings[s][source.roomOrdinal(doc)]);
+                }
+            }
+
+            // 각 세그먼트의 문서 번호 범위가 겹치지 않으므로 순서대로 이어 붙이면 정렬이 유지된다
+            List<int[]> lists = new ArrayList<>(sources.size());
+            for (String term : terms) {
+                lists.clear();
+                int count = 0;
+                for (SearchSegment source : sources) {
+                    int[] docs = source.postings(term);
+                    lists.add(docs);
+                    count += docs == null ? 0 : docs.length;
+                }
+                writeString(out, term);
+                out.writeInt(count);
+                for (int s = 0; s < lists.size(); s++) {
+                    int[] docs = lists.get(s);
+                    if (docs == null) {
+                        continue;
+                    }
+                    for (int doc : docs) {
+                        out.writeInt(docBases[s] + doc);
+                    }
+                }
+            }
+        }
+
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return open(file);
+    }
+
+    @Override
+    public int docCount() {
+        return docCount;
+    }
+
+    @Override
+    public int[] postings(String term) {
+        Long entry = dictionary.get(term);
+        if (entry == null) {
+            return null;
+        }
+        int position = (int) (entry >>> 32);
+        int count = (int) (long) entry;
+        int[] docs = new int[count];
+        buffer.slice(position, count * Integer.BYTES).asIntBuffer().get(docs);
+        return docs;
+    }
+
+    @Override
+    public Collection<String> terms() {
+        return Collections.unmodifiableSet(dictionary.keySet());
+    }
+
+    @Override
+    public List<String> rooms() {
+        return Collections.unmodifiableList(rooms);
+    }
+
+    @Override
+    public int roomOrdinal(String roomId) {
+        return roomIndex.getOrDefault(roomId, -1);
+    }
+
+    @Override
+    public int roomOrdinal(int doc) {
+        return buffer.getInt(docsOffset + doc * DOC_BYTES + ID_BYTES);
+    }
+
+    @Override
+    public String messageId(int doc) {
+        return new ObjectId(buffer.slice(docsOffset + doc * DOC_BYTES, ID_BYTES)).toHexString();
+    }
+
+    @Override
+    public String maxMessageId() {
+        return maxMessageId;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,13 +1,21 @@
 package com.talktoyou.backend.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -15,10 +23,21 @@ public class JwtUtil {
 
     private final SecretKey secretKey;
     private final long jwtExpiration;
+    private final JwtParser jwtParser;
+
+    // 검증된 클레임 캐시 (키: 토큰 SHA-256 다이제스트, 토큰 만료 시점에 제거)
+    private final Cache<String, TokenClaims> claimsCache;
+
+    // 토큰 검증 시간 (cached: 캐시 적중, verified: 서명 검증/파싱, rejected: 검증 실패)
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
 
     public JwtUtil(
+            MeterRegistry meterRegistry,
             @Value("${app.jwt.secret:mySecretKey1234567890123456789012345678901234567890123456789012345678901234567890abcdefghijklmnop}") String secret,
-            @Value("${app.jwt.expiration:86400000}") long jwtExpiration) { // 24시간
+            @Value("${app.jwt.expiration:86400000}") long jwtExpiration, // 24시간
+            @Value("${app.jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize) {
 
         // HS512에 안전한 키 생성
         if (secret.getBytes().length < 64) {
@@ -30,6 +49,16 @@ public class JwtUtil {
         }
 
         this.jwtExpiration = jwtExpiration;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+        this.cachedTimer = parseTimer(meterRegistry, "cached");
+        this.verifiedTimer = parseTimer(meterRegistry, "verified");
+        this.rejectedTimer = parseTimer(meterRegistry, "rejected");
     }
 
     // JWT 토큰 생성
@@ -46,35 +75,53 @@ public class JwtUtil {
                 .compact();
     }
 
+    // 토큰 검증 및 클레임 추출 (같은 토큰은 만료 전까지 서명 검증/파싱을 다시 하지 않음)
+    // 검증 실패 시 JwtException 발생
+    public TokenClaims parseToken(String token) {
+        long start = System.nanoTime();
+        String key = TokenDigest.sha256(token);
+
+        TokenClaims cached = claimsCache.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return cached;
+            }
+            claimsCache.invalidate(key);
+        }
+
+        Claims claims;
+        try {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (RuntimeException e) {
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        TokenClaims parsed = new TokenClaims(
+                claims.getSubject(),
+                claims.get("userName", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant());
+
+        claimsCache.put(key, parsed);
+        verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return parsed;
+    }
+
     // 토큰에서 사용자 ID 추출
     public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+        return parseToken(token).getUserId();
     }
 
     // 토큰에서 사용자명 추출
     public String getUserNameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("userName", String.class);
+        return parseToken(token).getUserName();
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            parseToken(token);
             return true;
         } catch (SecurityException ex) {
             log.error("잘못된 JWT 서명");
@@ -92,13 +139,7 @@ public class JwtUtil {
 
     // 토큰 만료 시간 추출
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getExpiration();
+        return parseToken(token).getExpirationDate();
     }
 
     // 토큰이 만료되었는지 확인
@@ -106,4 +147,31 @@ public class JwtUtil {
         Date expiration = getExpirationDateFromToken(token);
         return expiration.before(new Date());
     }
-}
\ No newline at end of file
+
+    private static Timer parseTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.jwt.parse")
+                .description("JWT 검증 및 클레임 추출 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 캐시 항목을 토큰 만료 시점에 제거
+    private static final class TokenExpiry implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenClaims value, long currentTime) {
+            long remainingMillis = value.getExpiration().toEpochMilli() - Instant.now().toEpochMilli();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
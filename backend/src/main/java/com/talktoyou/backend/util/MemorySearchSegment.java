@@ -0,0 +1,92 @@
+package com.talktoyou.backend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 아직 디스크에 기록되지 않은 최근 메시지 색인 (추가 전용, 스레드 안전)
+public class MemorySearchSegment implements SearchSegment {
+
+    private final List<String> messageIds = new ArrayList<>();
+    private int[] roomOrdinals = new int[1024];
+    private final List<String> rooms = new ArrayList<>();
+    private final Map<String, Integer> roomIndex = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private String maxMessageId;
+
+    // 메시지 추가 (messageId는 ObjectId 형식)
+    public synchronized void add(String messageId, String roomId, Collection<String> terms) {
+        int doc = messageIds.size();
+        messageIds.add(messageId);
+        if (doc == roomOrdinals.length) {
+            roomOrdinals = Arrays.copyOf(roomOrdinals, doc * 2);
+        }
+        roomOrdinals[doc] = roomIndex.computeIfAbsent(roomId, key -> {
+            rooms.add(key);
+            return rooms.size() - 1;
+        });
+        for (String term : terms) {
+            postings.computeIfAbsent(term, key -> new Postings()).add(doc);
+        }
+        if (maxMessageId == null || messageId.compareTo(maxMessageId) > 0) {
+            maxMessageId = messageId;
+        }
+    }
+
+    @Override
+    public synchronized int docCount() {
+        return messageIds.size();
+    }
+
+    @Override
+    public synchronized int[] postings(String term) {
+        Postings list = postings.get(term);
+        return list == null ? null : Arrays.copyOf(list.docs, list.size);
+    }
+
+    @Override
+    public synchronized Collection<String> terms() {
+        return new ArrayList<>(postings.keySet());
+    }
+
+    @Override
+    public synchronized List<String> rooms() {
+        return new ArrayList<>(rooms);
+    }
+
+    @Override
+    public synchronized int roomOrdinal(String roomId) {
+        return roomIndex.getOrDefault(roomId, -1);
+    }
+
+    @Override
+    public synchronized int roomOrdinal(int doc) {
+        return roomOrdinals[doc];
+    }
+
+    @Override
+    public synchronized String messageId(int doc) {
+        return messageIds.get(doc);
+    }
+
+    @Override
+    public synchronized String maxMessageId() {
+        return maxMessageId;
+    }
+
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.talktoyou.backend.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 메시지 목록 페이지네이션용 커서 (created_at, _id)
+// 클라이언트에는 Base64(URL-safe) 문자열로 전달한다
+@Getter
+@AllArgsConstructor
+public class MessageCursor {
+
+    private static final String SEPARATOR = "_";
+
+    private final LocalDateTime createdAt;
+
+    private final String messageId;
+
+    // 커서 문자열 생성
+    public static String encode(LocalDateTime createdAt, String messageId) {
+        String raw = createdAt + SEPARATOR + messageId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 문자열 해석
+    public static MessageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, index));
+            String messageId = raw.substring(index + 1);
+            return new MessageCursor(createdAt, messageId);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("유효하지 않은 커서입니다.");
+        }
+    }
+}
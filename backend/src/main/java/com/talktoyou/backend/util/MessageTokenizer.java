@@ -0,0 +1,61 @@
+package com.talktoyou.backend.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// 메시지 검색용 토큰 분리
+// 소문자로 바꾼 뒤 글자/숫자가 이어진 구간을 단어로 보고, 한글·한자·가나가 섞인 단어는
+// 조사/어미가 붙어도 찾을 수 있도록 2글자 단위(bigram)로 나눈다 (색인과 검색어에 같은 규칙 적용)
+public final class MessageTokenizer {
+
+    private static final int MAX_TERM_LENGTH = 64;
+
+    private MessageTokenizer() {
+    }
+
+    public static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < lower.length()) {
+            if (!Character.isLetterOrDigit(lower.codePointAt(i))) {
+                i += Character.charCount(lower.codePointAt(i));
+                continue;
+            }
+            int start = i;
+            boolean cjk = false;
+            while (i < lower.length() && Character.isLetterOrDigit(lower.codePointAt(i))) {
+                int codePoint = lower.codePointAt(i);
+                cjk |= isCjk(codePoint);
+                i += Character.charCount(codePoint);
+            }
+            addWord(terms, lower.substring(start, i), cjk);
+        }
+        return terms;
+    }
+
+    private static void addWord(Set<String> terms, String word, boolean cjk) {
+        if (!cjk || word.length() < 2) {
+            if (word.length() <= MAX_TERM_LENGTH) {
+                terms.add(word);
+            }
+            return;
+        }
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            terms.add(word.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
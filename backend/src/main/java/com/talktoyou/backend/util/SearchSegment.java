@@ -0,0 +1,28 @@
+package com.talktoyou.backend.util;
+
+import java.util.Collection;
+import java.util.List;
+
+// 메시지 검색 색인의 세그먼트 (문서 번호는 색인된 순서, 포스팅은 문서 번호 오름차순)
+public interface SearchSegment {
+
+    int docCount();
+
+    // 단어를 포함하는 문서 번호 목록 (없으면 null)
+    int[] postings(String term);
+
+    Collection<String> terms();
+
+    // 세그먼트에 등장한 채팅방 ID (인덱스가 채팅방 번호)
+    List<String> rooms();
+
+    // 채팅방 번호 (세그먼트에 없는 채팅방이면 -1)
+    int roomOrdinal(String roomId);
+
+    int roomOrdinal(int doc);
+
+    String messageId(int doc);
+
+    // 세그먼트에 포함된 가장 큰 메시지 ID (ObjectId 순서)
+    String maxMessageId();
+}
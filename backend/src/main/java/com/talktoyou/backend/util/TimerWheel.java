@@ -0,0 +1,86 @@
+package com.talktoyou.backend.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 해시 타이머 휠 (키별 만료 시각 관리, 스레드 안전하지 않음)
+// 만료 시각을 다시 설정하면 이전 슬롯의 항목은 해당 슬롯 차례에 지연 제거된다
+public class TimerWheel<K> {
+
+    private final long tickMillis;
+    private final List<Set<K>> wheel;
+    private final Map<K, Long> deadlines = new HashMap<>();
+    private long currentTick;
+
+    public TimerWheel(long tickMillis, int slotCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheel = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            wheel.add(new HashSet<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    // 키의 만료 시각 설정 (이미 있으면 갱신)
+    public void schedule(K key, long deadlineMillis) {
+        deadlines.put(key, deadlineMillis);
+        // 이미 지난 틱이면 다음 틱에 처리
+        long tick = Math.max(tickOf(deadlineMillis), currentTick + 1);
+        slot(tick).add(key);
+    }
+
+    public void cancel(K key) {
+        deadlines.remove(key);
+    }
+
+    public boolean contains(K key) {
+        return deadlines.containsKey(key);
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+
+    // now까지 시간을 진행하고 만료된 키 목록을 반환
+    public List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+
+        // 한 바퀴 이상 지났으면 모든 슬롯을 한 번씩만 확인
+        long fromTick = Math.max(currentTick + 1, targetTick - wheel.size() + 1);
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Set<K> bucket = slot(tick);
+            Iterator<K> it = bucket.iterator();
+            while (it.hasNext()) {
+                K key = it.next();
+                Long deadline = deadlines.get(key);
+                if (deadline == null) {
+                    it.remove(); // 취소된 항목
+                } else if (deadline <= nowMillis) {
+                    it.remove();
+                    deadlines.remove(key);
+                    expired.add(key);
+                } else if (slot(tickOf(deadline)) != bucket) {
+                    it.remove(); // 다른 슬롯으로 재설정된 항목
+                }
+                // 같은 슬롯의 다음 바퀴 항목은 그대로 둔다
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return expired;
+    }
+
+    // 만료 시각 이후 첫 틱 (해당 틱까지 진행하면 now >= 틱 시작 >= 만료 시각이므로 바로 만료됨)
+    private long tickOf(long deadlineMillis) {
+        return Math.ceilDiv(deadlineMillis, tickMillis);
+    }
+
+    private Set<K> slot(long tick) {
+        return wheel.get((int) Math.floorMod(tick, (long) wheel.size()));
+    }
+}
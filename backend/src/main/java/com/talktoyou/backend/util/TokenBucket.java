@@ -0,0 +1,36 @@
+package com.talktoyou.backend.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 토큰 버킷 (lock-free, 스레드 안전)
+// GCRA 방식으로 "버킷이 다시 가득 차는 시각" 하나만 CAS로 갱신하므로 토큰 수를 따로 채우는 작업이 없다
+public class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long intervalNanos;  // 토큰 하나가 채워지는 시간
+    private final long toleranceNanos; // 버스트로 앞당겨 쓸 수 있는 시간 ((burst - 1) * interval)
+    private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(int burst, double refillPerSecond) {
+        if (burst < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("burst는 1 이상, refillPerSecond는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = Math.max(1, (long) (NANOS_PER_SECOND / refillPerSecond));
+        this.toleranceNanos = (burst - 1) * intervalNanos;
+    }
+
+    // 토큰 하나 사용 (nowNanos: System.nanoTime 기준 현재 시각)
+    public boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long base = Math.max(current, nowNanos);
+            if (base - nowNanos > toleranceNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, base + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+}
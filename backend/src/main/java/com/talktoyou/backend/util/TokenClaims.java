@@ -0,0 +1,32 @@
+package com.talktoyou.backend.util;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.Date;
+
+// 검증이 끝난 JWT 클레임 (불변)
+@Value
+public class TokenClaims {
+
+    String userId;
+
+    String userName;
+
+    Instant issuedAt;
+
+    Instant expiration;
+
+    public Date getExpirationDate() {
+        return Date.from(expiration);
+    }
+
+    public boolean isExpired() {
+        return !expiration.isAfter(Instant.now());
+    }
+
+    // 만료까지 남은 시간 (초)
+    public long getRemainingSeconds() {
+        return Math.max(0, expiration.getEpochSecond() - Instant.now().getEpochSecond());
+    }
+}
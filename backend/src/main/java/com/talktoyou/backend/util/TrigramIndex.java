@@ -0,0 +1,260 @@
+package com.talktoyou.backend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 문자열 부분 일치 검색용 트라이그램(연속 3글자) 역색인 (스레드 안전)
+// 문서 번호는 추가된 순서대로 증가하므로 포스팅 목록은 항상 정렬 상태이며, 번호가 클수록 최근에 추가된 항목이다
+// 3글자 미만 검색어는 색인으로 좁힐 수 없어 전체 이름을 순회한다
+public class TrigramIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_COMPACT_DELETED = 1024;
+
+    // 순위: 완전 일치 < 접두 일치 < 단어 시작 일치 < 그 외 부분 일치
+    private static final long EXACT = 0;
+    private static final long PREFIX = 1;
+    private static final long WORD_START = 2;
+    private static final long CONTAINS = 3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 필드는 모두 lock으로 보호
+    private final Map<String, Integer> docIds = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY]; // 정규화된 이름
+    private int docCount;
+    private int deletedCount;
+
+    // 항목 추가 (이미 있으면 이름 교체 후 가장 최근 항목으로 취급)
+    public void add(String id, String name) {
+        String normalized = normalize(name);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            int doc = docCount++;
+            if (doc == ids.length) {
+                ids = Arrays.copyOf(ids, doc * 2);
+                names = Arrays.copyOf(names, doc * 2);
+            }
+            ids[doc] = id;
+            names[doc] = normalized;
+            docIds.put(id, doc);
+            for (long gram : trigrams(normalized)) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            // 삭제 표시가 살아 있는 항목보다 많아지면 색인을 다시 만든다
+            if (deletedCount >= MIN_COMPACT_DELETED && deletedCount > docIds.size()) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어를 포함하는 항목의 id를 순위순으로 최대 limit개 반환
+    // 같은 순위면 이름이 짧은 것, 그다음 최근에 추가된 것이 먼저
+    public List<String> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            // 가장 나쁜 후보가 맨 앞에 오는 크기 limit의 힙 (키가 작을수록 높은 순위)
+            PriorityQueue<Long> top = new PriorityQueue<>(limit + 1, Comparator.reverseOrder());
+            if (normalized.length() < 3) {
+                for (int doc = 0; doc < docCount; doc++) {
+                    offer(top, limit, doc, normalized);
+                }
+            } else {
+                int[] candidates = candidates(normalized);
+                for (int doc : candidates) {
+                    offer(top, limit, doc, normalized);
+                }
+            }
+
+            List<String> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                result.add(ids[(int) (Integer.MAX_VALUE - (top.poll() & 0xFFFFFFFFL))]);
+            }
+            Collections.reverse(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어의 모든 트라이그램을 포함하는 문서 (포스팅이 짧은 것부터 교집합)
+    private int[] candidates(String query) {
+        Set<Long> grams = trigrams(query);
+        List<Postings> lists = new ArrayList<>(grams.size());
+        for (long gram : grams) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        Postings first = lists.get(0);
+        int[] result = Arrays.copyOf(first.docs, first.size);
+        int size = result.length;
+        for (int i = 1; i < lists.size() && size > 0; i++) {
+            size = intersect(result, size, lists.get(i));
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    // 정렬된 두 목록의 교집합을 target 앞쪽에 기록하고 크기 반환
+    private static int intersect(int[] target, int size, Postings other) {
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < size && j < other.size; i++) {
+            int doc = target[i];
+            while (j < other.size && other.docs[j] < doc) {
+                j++;
+            }
+            if (j < other.size && other.docs[j] == doc) {
+                target[count++] = doc;
+            }
+        }
+        return count;
+    }
+
+    private void offer(PriorityQueue<Long> top, int limit, int doc, String query) {
+        String name = names[doc];
+        if (name == null) {
+            return; // 삭제된 항목
+        }
+        int index = name.indexOf(query);
+        if (index < 0) {
+            return;
+        }
+
+        long key = rankKey(rank(name, query, index), name.length(), doc);
+        if (top.size() < limit) {
+            top.add(key);
+        } else if (key < top.peek()) {
+            top.poll();
+            top.add(key);
+        }
+    }
+
+    private static long rank(String name, String query, int index) {
+        if (index == 0) {
+            return name.length() == query.length() ? EXACT : PREFIX;
+        }
+        if (Character.isWhitespace(name.charAt(index - 1))) {
+            return WORD_START;
+        }
+        // 첫 일치가 단어 중간이어도 뒤쪽에 단어 시작 일치가 있을 수 있다
+        for (int i = name.indexOf(query, index + 1); i > 0; i = name.indexOf(query, i + 1)) {
+            if (Character.isWhitespace(name.charAt(i - 1))) {
+                return WORD_START;
+            }
+        }
+        return CONTAINS;
+    }
+
+    // 순위(상위 비트) / 이름 길이 / 최근 추가 순(하위 32비트)을 하나의 정렬 키로 합친다
+    private static long rankKey(long rank, int length, int doc) {
+        return (rank << 48) | ((long) Math.min(length, 0xFFFF) << 32) | (Integer.MAX_VALUE - doc);
+    }
+
+    private void removeLocked(String id) {
+        Integer doc = docIds.remove(id);
+        if (doc == null) {
+            return;
+        }
+        // 포스팅에서는 지우지 않고 이름만 비워 둔다 (검색 시 건너뜀)
+        names[doc] = null;
+        ids[doc] = null;
+        deletedCount++;
+    }
+
+    // 살아 있는 항목만 추가 순서대로 다시 색인
+    private void compact() {
+        String[] oldIds = ids;
+        String[] oldNames = names;
+        int oldCount = docCount;
+
+        docIds.clear();
+        postings.clear();
+        ids = new String[Math.max(INITIAL_CAPACITY, oldCount - deletedCount)];
+        names = new String[ids.length];
+        docCount = 0;
+        deletedCount = 0;
+
+        for (int doc = 0; doc < oldCount; doc++) {
+            if (oldIds[doc] == null) {
+                continue;
+            }
+            int next = docCount++;
+            ids[next] = oldIds[doc];
+            names[next] = oldNames[doc];
+            docIds.put(oldIds[doc], next);
+            for (long gram : trigrams(oldNames[doc])) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(next);
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 연속 3글자를 long 하나로 묶은 키 집합
+    private static Set<Long> trigrams(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    // 문서 번호 목록 (오름차순으로만 추가됨)
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.config.MongoIndexConfig;
+import com.talktoyou.backend.config.NodeIdentity;
+import com.talktoyou.backend.dto.request.CreateRoomRequest;
+import com.talktoyou.backend.entity.ChatRoom;
+import com.talktoyou.backend.entity.User;
+import com.talktoyou.backend.repository.ChatRoomRepository;
+import com.talktoyou.backend.repository.RoomMemberRepository;
+import com.talktoyou.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시 참여/퇴장 시 채팅방 인원 수가 정확히 유지되는지 확인하는 스트레스 테스트
+@Testcontainers(disabledWithoutDocker = true)
+@DataMongoTest
+@Import({ChatRoomService.class, UserSummaryService.class, RoomMembershipCache.class,
+        RoomDirectory.class, NodeIdentity.class, MongoIndexConfig.class})
+class ChatRoomServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+
+    @Container
+    @ServiceConnection
+    static final MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @MockitoBean
+    RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    ChatRoomService chatRoomService;
+
+    @Autowired
+    ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    RoomMemberRepository roomMemberRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    MongoIndexConfig mongoIndexConfig;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomRepository.deleteAll();
+        roomMemberRepository.deleteAll();
+        userRepository.deleteAll();
+        // 중복 참여 차단은 room_members 유니크 인덱스에 의존
+        mongoIndexConfig.initIndexes();
+    }
+
+    @Test
+    void concurrentJoinsNeverExceedCapacity() throws Exception {
+        int maxMembers = 50;
+        int joiners = 300;
+        String roomId = createRoom(maxMembers);
+        List<String> userIds = createUsers("join", joiners);
+
+        List<Boolean> results = runConcurrently(userIds.stream()
+                .map(userId -> (Callable<Boolean>) () -> tryJoin(roomId, userId))
+                .toList());
+
+        long succeeded = results.stream().filter(Boolean::booleanValue).count();
+        ChatRoom room = chatRoomRepository.findById(roomId).orElseThrow();
+
+        // 생성자 1명 + 성공한 참여자 = 정원
+        assertThat(succeeded).isEqualTo(maxMembers - 1);
+        assertThat(room.getCurrentRoomMember()).isEqualTo(maxMembers);
+        assertThat(roomMemberRepository.countByRoomId(roomId)).isEqualTo(maxMembers);
+    }
+
+    @Test
+    void sameUserJoiningConcurrentlyIsCountedOnce() throws Exception {
+        String roomId = createRoom(100);
+        String userId = createUsers("dup", 1).get(0);
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> tryJoin(roomId, userId));
+        }
+        List<Boolean> results = runConcurrently(tasks);
+
+        assertThat(results.stream().filter(Boolean::booleanValue).count()).isEqualTo(1);
+        assertThat(chatRoomRepository.findById(roomId).orElseThrow().getCurrentRoomMember()).isEqualTo(2);
+        assertThat(roomMemberRepository.countByRoomId(roomId)).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentJoinsAndLeavesKeepCountExact() throws Exception {
+        int users = 200;
+        String roomId = createRoom(users + 1);
+        List<String> userIds = createUsers("mixed", users);
+
+        // 절반은 미리 참여시켜 두고, 나머지 절반의 참여와 동시에 퇴장
+        List<String> leaving = userIds.subList(0, users / 2);
+        List<String> joining = userIds.subList(users / 2, users);
+        for (String userId : leaving) {
+            chatRoomService.joinRoom(roomId, userId);
+        }
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        joining.forEach(userId -> tasks.add(() -> tryJoin(roomId, userId)));
+        leaving.forEach(userId -> tasks.add(() -> {
+            chatRoomService.leaveRoom(roomId, userId);
+            return true;
+        }));
+        runConcurrently(tasks);
+
+        ChatRoom room = chatRoomRepository.findById(roomId).orElseThrow();
+        assertThat(room.getCurrentRoomMember()).isEqualTo(1 + joining.size());
+        assertThat(roomMemberRepository.countByRoomId(roomId)).isEqualTo(1 + joining.size());
+    }
+
+    private boolean tryJoin(String roomId, String userId) {
+        try {
+            chatRoomService.joinRoom(roomId, userId);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private String createRoom(int maxMembers) {
+        String ownerId = createUsers("owner", 1).get(0);
+        CreateRoomRequest request = new CreateRoomRequest();
+        request.setRoomName("stress-room");
+        request.setMaxRoomMember(maxMembers);
+        return chatRoomService.createRoom(request, ownerId).getRoomId();
+    }
+
+    private List<String> createUsers(String prefix, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .userName(prefix + i)
+                    .nickName(prefix + i)
+                    .email(prefix + i + "@test.com")
+                    .password("password")
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return userRepository.saveAll(users).stream().map(User::getUserId).toList();
+    }
+
+    // 모든 작업이 동시에 출발하도록 래치로 맞춘 뒤 실행
+    private <T> List<T> runConcurrently(List<Callable<T>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.dto.UserSummary;
+import com.talktoyou.backend.entity.ChatRoom;
+import com.talktoyou.backend.repository.ChatRoomRepository;
+import com.talktoyou.backend.repository.RoomMemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 정원 조건부 증가($expr)와 정원 초과 시 멤버 롤백 확인 (mongo-java-server, Docker 불필요)
+class ChatRoomServiceTest {
+
+    private InMemoryMongo mongo;
+    private ChatRoomRepository chatRoomRepository;
+    private RoomMemberRepository roomMemberRepository;
+    private RoomMembershipCache roomMembershipCache;
+    private ChatRoomService chatRoomService;
+
+    @BeforeEach
+    void setUp() {
+        mongo = new InMemoryMongo();
+        chatRoomRepository = mongo.repository(ChatRoomRepository.class);
+        roomMemberRepository = mongo.repository(RoomMemberRepository.class);
+
+        UserSummaryService userSummaryService = mock(UserSummaryService.class);
+        when(userSummaryService.get(anyString())).thenAnswer(invocation -> Optional.of(UserSummary.builder()
+                .userId(invocation.getArgument(0))
+                .userName(invocation.getArgument(0))
+                .build()));
+        roomMembershipCache = mock(RoomMembershipCache.class);
+        chatRoomService = new ChatRoomService(chatRoomRepository, roomMemberRepository,
+                userSummaryService, roomMembershipCache, mock(RoomDirectory.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongo.close();
+    }
+
+    @Test
+    void incrementStopsAtCapacity() {
+        String roomId = room(2, 1, null);
+
+        assertThat(chatRoomRepository.incrementMemberCountIfNotFull(roomId)).isEqualTo(1);
+        assertThat(chatRoomRepository.incrementMemberCountIfNotFull(roomId)).isZero();
+        assertThat(currentMembers(roomId)).isEqualTo(2);
+    }
+
+    @Test
+    void incrementSkipsDeletedRoom() {
+        String roomId = room(10, 1, LocalDateTime.now());
+
+        assertThat(chatRoomRepository.incrementMemberCountIfNotFull(roomId)).isZero();
+        assertThat(currentMembers(roomId)).isEqualTo(1);
+    }
+
+    @Test
+    void joinIntoFullRoomRollsBackMembership() {
+        String roomId = room(2, 1, null);
+        chatRoomService.joinRoom(roomId, "second");
+
+        assertThatThrownBy(() -> chatRoomService.joinRoom(roomId, "third"))
+                .hasMessage("채팅방이 가득 찼습니다.");
+
+        assertThat(roomMemberRepository.existsByUserIdAndRoomId("second", roomId)).isTrue();
+        assertThat(roomMemberRepository.existsByUserIdAndRoomId("third", roomId)).isFalse();
+        assertThat(currentMembers(roomId)).isEqualTo(2);
+        verify(roomMembershipCache).onJoin(roomId, "second");
+        verify(roomMembershipCache, never()).onJoin(roomId, "third");
+
+        // 롤백되었으므로 자리가 나면 다시 참여할 수 있다
+        chatRoomService.leaveRoom(roomId, "second");
+        chatRoomService.joinRoom(roomId, "third");
+        assertThat(currentMembers(roomId)).isEqualTo(2);
+    }
+
+    private String room(int maxMembers, int currentMembers, LocalDateTime deletedAt) {
+        return chatRoomRepository.save(ChatRoom.builder()
+                .roomName("room")
+                .maxRoomMember(maxMembers)
+                .currentRoomMember(currentMembers)
+                .userId("owner")
+                .createdAt(LocalDateTime.now())
+                .deletedAt(deletedAt)
+                .build()).getRoomId();
+    }
+
+    private int currentMembers(String roomId) {
+        return chatRoomRepository.findById(roomId).orElseThrow().getCurrentRoomMember();
+    }
+}
@@ -0,0 +1,54 @@
+package com.talktoyou.backend.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.MongoVersion;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+// Docker 없이 도는 저장소 테스트용 메모리 MongoDB (mongo-java-server)
+// 현재 드라이버는 wire version 8(MongoDB 4.2) 미만 서버에 연결하지 않으므로 4.2로 보고한다
+final class InMemoryMongo implements AutoCloseable {
+
+    private static final MongoVersion MONGO_4_2 = new MongoVersion() {
+        @Override
+        public List<Integer> getVersionArray() {
+            return List.of(4, 2, 0);
+        }
+
+        @Override
+        public int getWireVersion() {
+            return 8;
+        }
+    };
+
+    private final MongoServer server;
+    private final MongoClient client;
+    private final MongoTemplate mongoTemplate;
+
+    InMemoryMongo() {
+        server = new MongoServer(new MemoryBackend().version(MONGO_4_2));
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+        mongoTemplate = new MongoTemplate(client, "talktoyou_test");
+    }
+
+    MongoTemplate template() {
+        return mongoTemplate;
+    }
+
+    <T> T repository(Class<T> repositoryInterface) {
+        return new MongoRepositoryFactory(mongoTemplate).getRepository(repositoryInterface);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        server.shutdownNow();
+    }
+}
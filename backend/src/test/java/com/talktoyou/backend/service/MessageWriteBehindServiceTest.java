@@ -0,0 +1,130 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.entity.Message;
+import com.talktoyou.backend.repository.MessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+// write-behind 일괄 저장: 크기/시간 트리거, 실패 시 개별 저장, 종료 시 잔여 메시지 저장
+class MessageWriteBehindServiceTest {
+
+    private final MessageRepository messageRepository = mock(MessageRepository.class);
+    private final MessageSearchIndex messageSearchIndex = mock(MessageSearchIndex.class);
+    private final UnreadCounterService unreadCounterService = mock(UnreadCounterService.class);
+
+    // 배치 리스트는 저장 후 재사용되므로 호출 시점의 내용을 복사해 둔다
+    private final List<List<Message>> inserted = new CopyOnWriteArrayList<>();
+    private final List<List<Message>> indexed = new CopyOnWriteArrayList<>();
+    private final List<List<Message>> counted = new CopyOnWriteArrayList<>();
+
+    private MessageWriteBehindService service;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            inserted.add(List.copyOf(invocation.<Collection<Message>>getArgument(0)));
+            return List.of();
+        }).when(messageRepository).insert(anyList());
+        doAnswer(invocation -> indexed.add(List.copyOf(invocation.<Collection<Message>>getArgument(0))))
+                .when(messageSearchIndex).indexAll(any());
+        doAnswer(invocation -> counted.add(List.copyOf(invocation.<Collection<Message>>getArgument(0))))
+                .when(unreadCounterService).onPersisted(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void flushesAsSoonAsBatchIsFull() {
+        start(3, 60_000);
+        List<Message> messages = List.of(message(), message(), message());
+        messages.forEach(service::enqueue);
+
+        // 시간 트리거(1분)를 기다리지 않고 저장
+        verify(unreadCounterService, timeout(1000)).onPersisted(any());
+        assertThat(inserted).containsExactly(messages);
+        assertThat(indexed).containsExactly(messages);
+        assertThat(counted).containsExactly(messages);
+    }
+
+    @Test
+    void flushesPartialBatchAfterInterval() {
+        start(100, 50);
+        List<Message> messages = List.of(message(), message());
+        messages.forEach(service::enqueue);
+
+        verify(messageRepository, timeout(1000)).insert(anyList());
+        assertThat(inserted).containsExactly(messages);
+    }
+
+    @Test
+    void failedBatchIsRetriedOneByOneWithoutRepeatingSideEffects() {
+        doAnswer(invocation -> {
+            throw new RuntimeException("bulk write failed");
+        }).when(messageRepository).insert(anyList());
+        start(2, 60_000);
+        Message first = message();
+        Message second = message();
+        service.enqueue(first);
+        service.enqueue(second);
+
+        verify(messageRepository, timeout(1000)).save(first);
+        verify(messageRepository, timeout(1000)).save(second);
+        verify(unreadCounterService, after(200).times(1)).onPersisted(any());
+        // 재시도로 저장된 메시지에 대해서만 한 번씩
+        assertThat(indexed).containsExactly(List.of(first, second));
+        assertThat(counted).containsExactly(List.of(first, second));
+    }
+
+    @Test
+    void shutdownSavesQueuedMessagesAndLaterOnesDirectly() {
+        start(100, 200);
+        Message queued = message();
+        service.enqueue(queued);
+
+        service.shutdown();
+        assertThat(inserted).containsExactly(List.of(queued));
+
+        Message late = message();
+        service.enqueue(late);
+        verify(messageRepository).save(late);
+        assertThat(inserted).hasSize(1);
+        assertThat(counted).containsExactly(List.of(queued), List.of(late));
+        service = null;
+    }
+
+    private void start(int batchSize, long flushIntervalMillis) {
+        service = new MessageWriteBehindService(messageRepository, messageSearchIndex, unreadCounterService,
+                new SimpleMeterRegistry(), 1000, batchSize, flushIntervalMillis);
+        service.start();
+    }
+
+    private static Message message() {
+        return Message.builder()
+                .roomId("room-1")
+                .userId("user-1")
+                .content("hello")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
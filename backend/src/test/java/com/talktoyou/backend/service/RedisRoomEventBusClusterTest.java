@@ -0,0 +1,149 @@
+package com.talktoyou.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.talktoyou.backend.TalkToYouBackendApplication;
+import com.talktoyou.backend.dto.ChatMessage;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 멀티 노드 하네스: 같은 Redis/MongoDB를 쓰는 두 노드를 띄우고
+// 노드 A로 보낸 채팅 메시지가 노드 B의 구독자에게 전달되는지 확인
+@Testcontainers(disabledWithoutDocker = true)
+class RedisRoomEventBusClusterTest {
+
+    @Container
+    static final MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    @Container
+    @SuppressWarnings("resource")
+    static final GenericContainer<?> redis = new GenericContainer<>("redis:7.2-alpine").withExposedPorts(6379);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @Test
+    void messageSentOnOneNodeReachesSubscribersOnAnotherNode() throws Exception {
+        RestClient restA = RestClient.create("http://localhost:" + port(nodeA));
+
+        // 노드 A에서 회원가입 후 채팅방 생성 (생성자는 자동 참여)
+        JsonNode auth = restA.post().uri("/api/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("userName", "cluster", "nickName", "cluster",
+                        "email", "cluster@test.com", "password", "password1"))
+                .retrieve().body(JsonNode.class).get("data");
+        String token = auth.get("accessToken").asText();
+        String userId = auth.get("userId").asText();
+
+        String roomId = restA.post().uri("/api/rooms")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("roomName", "cluster-room", "maxRoomMember", 10))
+                .retrieve().body(JsonNode.class).get("data").get("roomId").asText();
+
+        // 노드 B에서 구독
+        BlockingQueue<ChatMessage> received = new LinkedBlockingQueue<>();
+        StompSession subscriber = connect(nodeB, token);
+        subscriber.subscribe("/topic/room/" + roomId, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return ChatMessage.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((ChatMessage) payload);
+            }
+        });
+        // 노드 B가 Redis 채널 구독을 마칠 시간
+        Thread.sleep(500);
+
+        // 노드 A로 전송
+        StompSession sender = connect(nodeA, token);
+        sender.send("/app/chat/" + roomId, ChatMessage.builder()
+                .type(ChatMessage.MessageType.CHAT)
+                .userId(userId)
+                .userName("cluster")
+                .content("hello from node A")
+                .build());
+
+        ChatMessage message = received.poll(10, TimeUnit.SECONDS);
+        assertThat(message).isNotNull();
+        assertThat(message.getContent()).isEqualTo("hello from node A");
+        assertThat(message.getMessageId()).isNotNull();
+
+        sender.disconnect();
+        subscriber.disconnect();
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(TalkToYouBackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "management.server.port=0",
+                        "spring.data.mongodb.uri=" + mongo.getReplicaSetUrl("talktoyou_cluster"),
+                        "spring.data.redis.host=" + redis.getHost(),
+                        "spring.data.redis.port=" + redis.getMappedPort(6379),
+                        "app.broker.mode=redis")
+                .run();
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+    }
+
+    private static StompSession connect(ConfigurableApplicationContext node, String token) throws Exception {
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(JsonMapper.builder().findAndAddModules().build());
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(converter);
+
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+        return stompClient.connectAsync("ws://localhost:" + port(node) + "/ws-stomp", new WebSocketHttpHeaders(),
+                connectHeaders, new StompSessionHandlerAdapter() {
+                }).get(10, TimeUnit.SECONDS);
+    }
+}
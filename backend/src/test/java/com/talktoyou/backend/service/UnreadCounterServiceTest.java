@@ -0,0 +1,105 @@
+package com.talktoyou.backend.service;
+
+import com.talktoyou.backend.entity.Message;
+import com.talktoyou.backend.entity.RoomMember;
+import com.talktoyou.backend.repository.RoomMemberRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 안 읽은 수 증가(커서 조건)와 읽음 처리 후 재계산 확인 (mongo-java-server, Docker 불필요)
+class UnreadCounterServiceTest {
+
+    private static final String ROOM_ID = "room-1";
+
+    private InMemoryMongo mongo;
+    private MongoTemplate mongoTemplate;
+    private RoomMemberRepository roomMemberRepository;
+    private UnreadCounterService unreadCounterService;
+
+    @BeforeEach
+    void setUp() {
+        mongo = new InMemoryMongo();
+        mongoTemplate = mongo.template();
+        roomMemberRepository = mongo.repository(RoomMemberRepository.class);
+
+        RoomMembershipCache roomMembershipCache = mock(RoomMembershipCache.class);
+        when(roomMembershipCache.isMember(anyString(), anyString())).thenReturn(true);
+        unreadCounterService = new UnreadCounterService(mongoTemplate, roomMemberRepository, roomMembershipCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongo.close();
+    }
+
+    @Test
+    void persistedMessagesCountOnlyPastEachMembersCursor() {
+        List<Message> messages = List.of(message("sender"), message("sender"), message("reader"));
+        member("idle", null);
+        member("reader", messages.get(1).getMessageId()); // write-behind 저장 전에 두 번째 메시지까지 읽음
+        member("sender", null);
+
+        unreadCounterService.onPersisted(messages);
+
+        assertThat(unreadCount("idle")).isEqualTo(3);
+        assertThat(unreadCount("reader")).isZero(); // 세 번째는 자기 메시지
+        assertThat(unreadCount("sender")).isEqualTo(1);
+    }
+
+    @Test
+    void markReadRecountsOthersMessagesAfterTheCursor() {
+        List<Message> messages = List.of(message("other"), message("reader"), message("other"), message("other"));
+        messages.forEach(mongoTemplate::insert);
+        member("reader", null);
+        unreadCounterService.onPersisted(messages);
+        assertThat(unreadCount("reader")).isEqualTo(3);
+
+        unreadCounterService.markRead(ROOM_ID, "reader", messages.get(1).getMessageId());
+
+        assertThat(unreadCount("reader")).isEqualTo(2);
+        assertThat(member("reader").getLastReadMessageId()).isEqualTo(messages.get(1).getMessageId());
+
+        // 커서는 뒤로 가지 않는다
+        unreadCounterService.markRead(ROOM_ID, "reader", messages.get(0).getMessageId());
+        assertThat(member("reader").getLastReadMessageId()).isEqualTo(messages.get(1).getMessageId());
+        assertThat(unreadCount("reader")).isEqualTo(2);
+    }
+
+    private Message message(String userId) {
+        return Message.builder()
+                .messageId(new ObjectId().toHexString())
+                .roomId(ROOM_ID)
+                .userId(userId)
+                .content("hello")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void member(String userId, String lastReadMessageId) {
+        roomMemberRepository.insert(RoomMember.builder()
+                .userId(userId)
+                .roomId(ROOM_ID)
+                .joinedAt(LocalDateTime.now())
+                .lastReadMessageId(lastReadMessageId)
+                .build());
+    }
+
+    private RoomMember member(String userId) {
+        return roomMemberRepository.findByUserIdAndRoomId(userId, ROOM_ID).orElseThrow();
+    }
+
+    private long unreadCount(String userId) {
+        return member(userId).getUnreadCount();
+    }
+}
@@ -0,0 +1,113 @@
+package com.talktoyou.backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.talktoyou.backend.dto.ChatMessage;
+import com.talktoyou.backend.dto.RoomEvent;
+import com.talktoyou.backend.service.RoomBroadcaster;
+import com.talktoyou.backend.service.RoomFrameCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactChatCodecTest {
+
+    private final ObjectMapper jsonMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final CompactChatCodec codec = new CompactChatCodec(jsonMapper);
+
+    private final ChatMessage message = ChatMessage.builder()
+            .type(ChatMessage.MessageType.CHAT)
+            .messageId("665f1c2e9b1e8a3d4c5b6a79")
+            .roomId("665f1c2e9b1e8a3d4c5b6a70")
+            .seq(42L)
+            .userId("665f1c2e9b1e8a3d4c5b6a71")
+            .userName("talktoyou")
+            .content("안녕하세요")
+            .timestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+            .build();
+
+    @Test
+    void roundTripPreservesMessage() {
+        assertThat(codec.decode(codec.encode(message))).isEqualTo(message);
+    }
+
+    @Test
+    void encodingIsSmallerThanJson() throws Exception {
+        assertThat(codec.encode(message).length).isLessThan(jsonMapper.writeValueAsBytes(message).length);
+    }
+
+    @Test
+    void listPayloadIsEncodedElementByElement() throws Exception {
+        ChatMessage leave = ChatMessage.builder()
+                .type(ChatMessage.MessageType.LEAVE)
+                .roomId(message.getRoomId())
+                .userId(message.getUserId())
+                .userName(message.getUserName())
+                .timestamp(message.getTimestamp())
+                .build();
+
+        byte[] encoded = codec.encodeEvent(List.of(message, leave));
+
+        CBORMapper cborMapper = new CBORMapper();
+        assertThat(cborMapper.readTree(encoded)).containsExactly(
+                cborMapper.readTree(codec.encode(message)),
+                cborMapper.readTree(codec.encode(leave)));
+        // 다른 노드에서 JSON으로 받은 묶음도 같은 형식으로 인코딩
+        assertThat(codec.encodeJson(jsonMapper.writeValueAsString(List.of(message, leave)), "BATCH", true))
+                .isEqualTo(encoded);
+    }
+
+    @Test
+    void batchJoinedWithSingleEventFlattensToCompactElements() throws Exception {
+        ChatMessage leave = ChatMessage.builder()
+                .type(ChatMessage.MessageType.LEAVE)
+                .roomId(message.getRoomId())
+                .userId(message.getUserId())
+                .userName(message.getUserName())
+                .timestamp(message.getTimestamp())
+                .build();
+        List<ChatMessage> leaves = List.of(leave, leave);
+
+        // 임계값 0: 모든 이벤트를 묶고, 두 번째 이벤트에서 바로 전송
+        RoomFrameCoalescer coalescer = new RoomFrameCoalescer(new SimpleMeterRegistry(), 0, 60_000, 2);
+        List<RoomEvent> sent = new ArrayList<>();
+        try {
+            coalescer.submit(event("CHAT", message), sent::add);
+            coalescer.submit(event(RoomFrameCoalescer.BATCH_EVENT_TYPE, leaves), sent::add);
+        } finally {
+            coalescer.shutdown();
+        }
+
+        assertThat(sent).hasSize(1);
+        RoomEvent batch = sent.get(0);
+        byte[] encoded = codec.encodeEvent(batch.getSource());
+
+        CBORMapper cborMapper = new CBORMapper();
+        JsonNode leaveNode = cborMapper.readTree(codec.encode(leave));
+        assertThat(cborMapper.readTree(encoded))
+                .containsExactly(cborMapper.readTree(codec.encode(message)), leaveNode, leaveNode);
+        assertThat(codec.encodeJson(batch.getPayload(), batch.getEventType(), true)).isEqualTo(encoded);
+    }
+
+    private RoomEvent event(String eventType, Object payload) throws Exception {
+        return RoomEvent.builder()
+                .roomId(message.getRoomId())
+                .destination(RoomBroadcaster.ROOM_TOPIC_PREFIX + message.getRoomId())
+                .eventType(eventType)
+                .payload(jsonMapper.writeValueAsString(payload))
+                .source(payload)
+                .build();
+    }
+}
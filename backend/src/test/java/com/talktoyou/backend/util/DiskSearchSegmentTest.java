@@ -0,0 +1,48 @@
+package com.talktoyou.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiskSearchSegmentTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void mergedSegmentKeepsDocumentOrderAndRemapsRooms() throws Exception {
+        MemorySearchSegment first = new MemorySearchSegment();
+        first.add(id(1), "roomA", MessageTokenizer.tokenize("hello world"));
+        first.add(id(2), "roomB", MessageTokenizer.tokenize("hello 회의"));
+        MemorySearchSegment second = new MemorySearchSegment();
+        second.add(id(3), "roomB", MessageTokenizer.tokenize("world 회의는"));
+        second.add(id(4), "roomC", MessageTokenizer.tokenize("hello"));
+
+        DiskSearchSegment merged = DiskSearchSegment.write(directory.resolve("merged.idx"), List.of(
+                DiskSearchSegment.write(directory.resolve("first.idx"), List.of(first)),
+                DiskSearchSegment.write(directory.resolve("second.idx"), List.of(second))));
+
+        assertThat(merged.docCount()).isEqualTo(4);
+        assertThat(merged.maxMessageId()).isEqualTo(id(4));
+        assertThat(messageIds(merged, "hello")).containsExactly(id(1), id(2), id(4));
+        assertThat(messageIds(merged, "회의")).containsExactly(id(2), id(3));
+        assertThat(merged.postings("missing")).isNull();
+
+        int doc = merged.postings("world")[1];
+        assertThat(merged.rooms().get(merged.roomOrdinal(doc))).isEqualTo("roomB");
+        assertThat(merged.roomOrdinal("roomC")).isEqualTo(2);
+    }
+
+    private static List<String> messageIds(SearchSegment segment, String term) {
+        return Arrays.stream(segment.postings(term)).mapToObj(segment::messageId).toList();
+    }
+
+    private static String id(int value) {
+        return String.format("%024x", value);
+    }
+}
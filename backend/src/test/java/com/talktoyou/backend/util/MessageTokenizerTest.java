@@ -0,0 +1,14 @@
+package com.talktoyou.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageTokenizerTest {
+
+    @Test
+    void tokenizesKoreanWordsIntoBigramsSoParticlesStillMatch() {
+        assertThat(MessageTokenizer.tokenize("회의는 3시, Java-Spring!"))
+                .containsExactly("회의", "의는", "3시", "java", "spring");
+    }
+}
@@ -0,0 +1,49 @@
+package com.talktoyou.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    @Test
+    void expiresKeysOnceTheirDeadlinePasses() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 450);
+
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly("a");
+        assertThat(wheel.advance(500)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void rescheduledKeyExpiresAtNewDeadlineOnly() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        wheel.schedule("a", 650);
+
+        assertThat(wheel.advance(400)).isEmpty();
+        assertThat(wheel.advance(700)).containsExactly("a");
+    }
+
+    @Test
+    void handlesDeadlinesBeyondOneRotationAndLargeJumps() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 4, 0);
+        wheel.schedule("far", 1050); // 4슬롯(400ms) 휠에서 두 바퀴 이상 뒤
+
+        assertThat(wheel.advance(500)).isEmpty();
+        assertThat(wheel.advance(900)).isEmpty();
+        assertThat(wheel.advance(5000)).containsExactly("far");
+    }
+
+    @Test
+    void cancelledKeyNeverExpires() {
+        TimerWheel<String> wheel = new TimerWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        wheel.cancel("a");
+
+        assertThat(wheel.advance(1000)).isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package com.talktoyou.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void allowsBurstThenRejects() {
+        TokenBucket bucket = new TokenBucket(3, 10);
+
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isFalse();
+    }
+
+    @Test
+    void refillsAtConfiguredRateUpToBurst() {
+        TokenBucket bucket = new TokenBucket(2, 10); // 100ms마다 한 개
+
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(50 * MILLIS)).isFalse();
+        assertThat(bucket.tryAcquire(100 * MILLIS)).isTrue();
+
+        // 오래 쉬어도 burst 이상은 쌓이지 않는다
+        assertThat(bucket.tryAcquire(10_000 * MILLIS)).isTrue();
+        assertThat(bucket.tryAcquire(10_000 * MILLIS)).isTrue();
+        assertThat(bucket.tryAcquire(10_000 * MILLIS)).isFalse();
+    }
+
+    @Test
+    void concurrentCallersNeverExceedBurst() throws Exception {
+        TokenBucket bucket = new TokenBucket(100, 1);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    if (bucket.tryAcquire(0)) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(granted.get()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,53 @@
+package com.talktoyou.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTest {
+
+    @Test
+    void ranksExactThenPrefixThenWordStartThenSubstring() {
+        TrigramIndex index = new TrigramIndex();
+        index.add("substring", "Kotlin studygroup");
+        index.add("word", "Java Study");
+        index.add("prefix", "study group");
+        index.add("exact", "Study");
+        index.add("none", "music night");
+
+        assertThat(index.search("study", 10)).containsExactly("exact", "prefix", "word", "substring");
+    }
+
+    @Test
+    void prefersShorterThenNewerNamesWithinSameRank() {
+        TrigramIndex index = new TrigramIndex();
+        index.add("old", "스터디 모임 A");
+        index.add("new", "스터디 모임 B");
+        index.add("short", "스터디 방");
+
+        assertThat(index.search("스터디", 2)).containsExactly("short", "new");
+    }
+
+    @Test
+    void shortQueriesFallBackToScan() {
+        TrigramIndex index = new TrigramIndex();
+        index.add("a", "게임");
+        index.add("b", "ab");
+
+        assertThat(index.search("게", 10)).containsExactly("a");
+        assertThat(index.search("AB", 10)).containsExactly("b");
+    }
+
+    @Test
+    void removedAndRenamedEntriesAreNotReturned() {
+        TrigramIndex index = new TrigramIndex();
+        index.add("a", "study room");
+        index.add("b", "study hall");
+        index.remove("a");
+        index.add("b", "music hall");
+
+        assertThat(index.search("study", 10)).isEmpty();
+        assertThat(index.search("music", 10)).containsExactly("b");
+        assertThat(index.size()).isEqualTo(1);
+    }
+}